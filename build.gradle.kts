@@ -41,7 +41,7 @@ launch4j {
     requires64Bit = true
     stayAlive = false
     headerType = "console"
-    jvmOptions = listOf("--enable-preview")
+    jvmOptions = listOf("--enable-preview", "--add-modules", "jdk.incubator.vector")
     bundledJrePath = file("$projectDir/build/jre").absolutePath
 }
 
@@ -84,7 +84,7 @@ val createJre by tasks.registering(Exec::class) {
     commandLine(
             "$javaHome/bin/jlink",
             "--module-path", "$javaHome/jmods",
-            "--add-modules", "java.base,java.desktop,java.logging,jdk.unsupported",
+            "--add-modules", "java.base,java.desktop,java.logging,jdk.unsupported,jdk.incubator.vector",
             "--output", "build/jre",
             "--no-header-files",
             "--no-man-pages",
@@ -128,15 +128,15 @@ tasks.register<Zip>("buildExe") {
 
 
 tasks.withType<JavaCompile> {
-    options.compilerArgs.add("--enable-preview")
+    options.compilerArgs.addAll(listOf("--enable-preview", "--add-modules", "jdk.incubator.vector"))
 }
 
 tasks.withType<Test> {
-    jvmArgs("--enable-preview")
+    jvmArgs("--enable-preview", "--add-modules", "jdk.incubator.vector")
 }
 
 tasks.withType<JavaExec> {
-    jvmArgs("--enable-preview")
+    jvmArgs("--enable-preview", "--add-modules", "jdk.incubator.vector")
 }
 
 tasks.test {
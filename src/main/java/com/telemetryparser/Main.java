@@ -1,9 +1,16 @@
 package com.telemetryparser;
 
 import com.formdev.flatlaf.intellijthemes.FlatGruvboxDarkHardIJTheme;
+import com.telemetryparser.headless.BatchRunner;
+import com.telemetryparser.headless.SyntheticBenchmark;
+import com.telemetryparser.settings.Settings;
 import com.telemetryparser.ui.MainWindow;
 import com.telemetryparser.util.FontLoader;
+import com.telemetryparser.util.TesseractManager;
+import com.telemetryparser.util.ocr.remote.OcrWorkerServer;
+import com.telemetryparser.util.ocr.remote.OcrWorkers;
 import java.awt.GraphicsEnvironment;
+import java.util.Arrays;
 import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 
@@ -12,9 +19,28 @@ public class Main
 
 	public static void main(String[] args)
 	{
+		if (args.length > 0 && args[0].equals("--ocr-worker"))
+		{
+			System.setProperty("java.awt.headless", "true");
+			System.exit(OcrWorkerServer.run(Arrays.copyOfRange(args, 1, args.length)));
+		}
+
+		OcrWorkers.get().configure(Settings.getProperty("setting", "ocrWorkers", ""), loadOcrWorkerTimeout());
+		if (args.length > 0 && args[0].equals("--batch"))
+		{
+			System.setProperty("java.awt.headless", "true");
+			System.exit(BatchRunner.run(Arrays.copyOfRange(args, 1, args.length)));
+		}
+		if (args.length > 0 && args[0].equals("--synthetic"))
+		{
+			System.setProperty("java.awt.headless", "true");
+			System.exit(SyntheticBenchmark.run(Arrays.copyOfRange(args, 1, args.length)));
+		}
+
 		try
 		{
 			FontLoader.loadCustomFonts();
+			TesseractManager.warmUp();
 			UIManager.setLookAndFeel(new FlatGruvboxDarkHardIJTheme());
 			SwingUtilities.invokeLater(MainWindow::new);
 		}
@@ -23,4 +49,17 @@ public class Main
 			System.out.println("Could not initialize application");
 		}
 	}
+
+	private static long loadOcrWorkerTimeout()
+	{
+		try
+		{
+			return Long.parseLong(Settings.getProperty("setting", "ocrWorkerTimeoutMs", "2000"));
+		}
+		catch (NumberFormatException e)
+		{
+			System.err.println("Invalid ocrWorkerTimeoutMs setting, using 2000 ms");
+			return 2000;
+		}
+	}
 }
@@ -0,0 +1,23 @@
+package com.telemetryparser.core;
+
+public enum ClockDomain
+{
+	WALL("Wall Clock"),
+	MEDIA("Media Clock");
+
+	public final String name;
+
+	ClockDomain(String name)
+	{
+		this.name = name;
+	}
+
+	public long timestamp(long playerTime, long systemTime)
+	{
+		return switch (this)
+		{
+			case WALL -> systemTime;
+			case MEDIA -> playerTime;
+		};
+	}
+}
@@ -1,5 +1,7 @@
 package com.telemetryparser.core;
 
+import com.telemetryparser.util.ocr.OcrProfile;
+
 public enum ParameterType
 {
 	TIME("Time", 0),
@@ -18,4 +20,20 @@ public enum ParameterType
 		this.name = name;
 		this.acceptableChange = acceptableChange;
 	}
+
+	public boolean isText()
+	{
+		return ocrProfile() != null;
+	}
+
+	public OcrProfile ocrProfile()
+	{
+		return switch (this)
+		{
+			case TIME -> OcrProfile.CLOCK;
+			case SPEED -> OcrProfile.SPEED;
+			case ALTITUDE -> OcrProfile.ALTITUDE;
+			default -> null;
+		};
+	}
 }
@@ -10,15 +10,17 @@ public class TelemetrySnapshot
 	public double timeOccured;
 	private final long systemTime;
 	private final long playerTime;
+	private final long clockTime;
 
 	public Map<Parameter, Double> parameterMap;
 
-	public TelemetrySnapshot(double timeOccured, Map<Parameter, Double> parameterMap, long systemTime, long playerTime)
+	public TelemetrySnapshot(double timeOccured, Map<Parameter, Double> parameterMap, long systemTime, long playerTime, long clockTime)
 	{
 		this.timeOccured = timeOccured;
 		this.parameterMap = parameterMap;
 		this.systemTime = systemTime;
 		this.playerTime = playerTime;
+		this.clockTime = clockTime;
 		nullifyInvalidValues();
 	}
 
@@ -32,6 +34,11 @@ public class TelemetrySnapshot
 		return playerTime;
 	}
 
+	public long getClockTime()
+	{
+		return clockTime;
+	}
+
 	public boolean hasStage1()
 	{
 		return parameterMap.get(STAGE_1_SPEED) != null;
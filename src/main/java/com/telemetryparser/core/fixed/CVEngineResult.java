@@ -1,16 +1,20 @@
 package com.telemetryparser.core.fixed;
 
+import com.telemetryparser.ui.components.slider.SliderSetting;
 import com.telemetryparser.util.EngineLocation;
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.image.PackedRaster;
 import java.awt.Point;
 import java.awt.image.BufferedImage;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class CVEngineResult extends CVResult
 {
 	private final CVEngineData engineData;
-	public CVEngineResult(BufferedImage original, BufferedImage processed, CVEngineData engineData)
+	public CVEngineResult(BufferedImage original, BinaryImage processed, CVEngineData engineData)
 	{
 		super(original, processed);
 		this.engineData = engineData;
@@ -21,11 +25,11 @@ public class CVEngineResult extends CVResult
 		return engineData;
 	}
 
-	public static CompletableFuture<CVResult> fromImageAsync(BufferedImage image, Map<Integer, EngineLocation> engineMap, int ring)
+	public static CompletableFuture<CVResult> fromImageAsync(BufferedImage image, Map<Integer, EngineLocation> engineMap, int ring, Executor executor)
 	{
 		return CompletableFuture.supplyAsync(() ->
 		{
-			BufferedImage processed = preprocessImage(image, false);
+			BinaryImage processed = preprocessImage(image, false);
 			Map<Integer, EngineState> engineStates = new LinkedHashMap<>();
 			for(Integer engineNumber : engineMap.keySet())
 			{
@@ -36,43 +40,24 @@ public class CVEngineResult extends CVResult
 				}
 			}
 			return new CVEngineResult(image, processed, new CVEngineData(engineStates));
-		});
+		}, executor);
 	}
 
-	private static boolean isActive(BufferedImage image, Point p)
+	public static CVEngineResult fromSamples(BufferedImage image, PackedRaster frame, EngineSampler sampler)
 	{
-		if (image == null)
-		{
-			return false;
-		}
-
-		for (int dy = -1; dy <= 1; dy++)
-		{
-			for (int dx = -1; dx <= 1; dx++)
-			{
-				int x = p.x + dx;
-				int y = p.y + dy;
-
-				if (x < 0 || y < 0 || x >= image.getWidth() || y >= image.getHeight())
-				{
-					return false;
-				}
+		double amount = SliderSetting.AMOUNT.value();
+		int thresh = (int) Math.round(SliderSetting.UNSHARP_THRESHOLD.value() * 255);
+		int bwThreshold = (int) SliderSetting.BW_THRESHOLD.value();
 
-				int rgb = image.getRGB(x, y);
-				if (!isWhite(rgb))
-				{
-					return false;
-				}
-			}
-		}
-		return true;
+		return new CVEngineResult(image, null, sampler.sample(frame, amount, thresh, bwThreshold));
 	}
 
-	private static boolean isWhite(int rgb)
+	private static boolean isActive(BinaryImage image, Point p)
 	{
-		int r = (rgb >> 16) & 0xFF;
-		int g = (rgb >> 8) & 0xFF;
-		int b = (rgb) & 0xFF;
-		return (r == 255 && g == 255 && b == 255);
+		if (image == null)
+		{
+			return false;
+		}
+		return image.isWindowSet(p.x - 1, p.y - 1, 3, 3);
 	}
 }
@@ -1,14 +1,17 @@
 package com.telemetryparser.core.fixed;
 
-import java.awt.Color;
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.image.PackedRaster;
+import com.telemetryparser.util.image.PixelKernels;
 import java.awt.image.BufferedImage;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class CVFuelResult extends CVResult
 {
 	private final double fuelPercent;
 	private final int columnsInRange;
-	public CVFuelResult(BufferedImage original, BufferedImage processed, double fuelPercent, int columnsInRange)
+	public CVFuelResult(BufferedImage original, BinaryImage processed, double fuelPercent, int columnsInRange)
 	{
 		super(original, processed);
 		this.fuelPercent = fuelPercent;
@@ -25,7 +28,7 @@ public class CVFuelResult extends CVResult
 		return fuelPercent;
 	}
 
-	public static CompletableFuture<CVResult> fromImageAsync(BufferedImage image, int width)
+	public static CompletableFuture<CVResult> fromImageAsync(BufferedImage image, int width, Executor executor)
 	{
 		return CompletableFuture.supplyAsync(() ->
 		{
@@ -36,7 +39,7 @@ public class CVFuelResult extends CVResult
 				return new CVFuelResult(image, null, (1 - ((double) fuelCount / fuelBarWidth)) * 100, fuelCount); //todo fix null :)
 			}
 			return new CVFuelResult(null, null, 0, 0);
-		});
+		}, executor);
 	}
 
 	private static int countRightToLeftBlock(boolean[] inRange)
@@ -66,8 +69,9 @@ public class CVFuelResult extends CVResult
 
 	private static boolean[] computeColumnsInRange(BufferedImage image, int middleCount)
 	{
-		int width = image.getWidth();
-		int height = image.getHeight();
+		PackedRaster raster = PackedRaster.of(image);
+		int width = raster.width();
+		int height = raster.height();
 
 		if (middleCount > height)
 		{
@@ -87,25 +91,20 @@ public class CVFuelResult extends CVResult
 		}
 		int actualCount = (middleEnd - middleStart + 1);
 
-		boolean[] result = new boolean[width];
+		int[] sumR = new int[width];
+		int[] sumG = new int[width];
+		int[] sumB = new int[width];
+		PixelKernels kernels = PixelKernels.get();
+		for (int y = middleStart; y <= middleEnd; y++)
+		{
+			kernels.accumulateChannels(raster.data(), raster.rowStart(y), width, sumR, sumG, sumB);
+		}
 
+		int limit = 70 * actualCount;
+		boolean[] result = new boolean[width];
 		for (int x = 0; x < width; x++)
 		{
-			long sumR = 0, sumG = 0, sumB = 0;
-
-			for (int y = middleStart; y <= middleEnd; y++)
-			{
-				int rgb = image.getRGB(x, y);
-				Color c = new Color(rgb, true);
-				sumR += c.getRed();
-				sumG += c.getGreen();
-				sumB += c.getBlue();
-			}
-			int avgR = (int) (sumR / actualCount);
-			int avgG = (int) (sumG / actualCount);
-			int avgB = (int) (sumB / actualCount);
-
-			result[x] = (avgR < 70 && avgG < 70 && avgB < 70);
+			result[x] = (sumR[x] < limit && sumG[x] < limit && sumB[x] < limit);
 		}
 		return result;
 	}
@@ -1,16 +1,12 @@
 package com.telemetryparser.core.fixed;
 
 import com.telemetryparser.core.Parameter;
-import com.telemetryparser.ui.DebugWindow;
 import com.telemetryparser.ui.components.slider.SliderSetting;
-import java.awt.Color;
+import com.telemetryparser.util.image.BinaryImage;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class CVOrientationResult extends CVResult
@@ -20,11 +16,11 @@ public class CVOrientationResult extends CVResult
 	private final double correlation;
 	private final double symmetry;
 	private Double computedOrientation;
-	private final BufferedImage filteredImage;
-	public CVOrientationResult(BufferedImage original, BufferedImage processed, BufferedImage filteredImage, double orientation, double correlation, double symmetry, Parameter parameter)
+	private final boolean hasEdges;
+	public CVOrientationResult(BufferedImage original, BinaryImage processed, boolean hasEdges, double orientation, double correlation, double symmetry, Parameter parameter)
 	{
 		super(original, processed);
-		this.filteredImage = filteredImage;
+		this.hasEdges = hasEdges;
 		this.orientation = orientation;
 		this.correlation = correlation;
 		this.symmetry = symmetry;
@@ -33,13 +29,13 @@ public class CVOrientationResult extends CVResult
 
 	public BufferedImage getFilteredImage()
 	{
-		return filteredImage;
+		return hasEdges ? getProcessedImage() : null;
 	}
 
 	private void computeOrientation(Parameter parameter)
 	{
-		boolean strengthAcceptable = correlation >= DebugWindow.getSettingValue(SliderSetting.ORIENTATION_STRENGTH);
-		boolean symmetryAcceptable = symmetry >= DebugWindow.getSettingValue(SliderSetting.ORIENTATION_SYMMETRY);
+		boolean strengthAcceptable = correlation >= SliderSetting.ORIENTATION_STRENGTH.value();
+		boolean symmetryAcceptable = symmetry >= SliderSetting.ORIENTATION_SYMMETRY.value();
 
 		Double rawAngle = (strengthAcceptable && symmetryAcceptable) ? orientation : null;
 		if(rawAngle == null)
@@ -86,85 +82,60 @@ public class CVOrientationResult extends CVResult
 		return orientation;
 	}
 
-	public static CompletableFuture<CVResult> fromImageAsync(BufferedImage original, Parameter parameter)
+	public static CompletableFuture<CVResult> fromImageAsync(BufferedImage original, Parameter parameter, Executor executor)
 	{
 		return CompletableFuture.supplyAsync(() ->
 		{
 			if (original == null)
 			{
-				return new CVOrientationResult(null, null, null, 0d, 0d, 0d, parameter);
+				return new CVOrientationResult(null, null, false, 0d, 0d, 0d, parameter);
 			}
-			BufferedImage image = preprocessImage(original, false);
+			BinaryImage image = preprocessImage(original, false);
 
-			int width = image.getWidth();
-			int height = image.getHeight();
-			int[][] gray = new int[height][width];
-
-			for (int y = 0; y < height; y++)
-			{
-				for (int x = 0; x < width; x++)
-				{
-					int rgb = image.getRGB(x, y);
-					int r = (rgb >> 16) & 0xFF;
-					int g = (rgb >> 8) & 0xFF;
-					int b = (rgb) & 0xFF;
-					int grayVal = (r + g + b) / 3;
-					gray[y][x] = grayVal;
-				}
-			}
-
-			List<int[]> edgePixels = new ArrayList<>();
-			for (int y = 0; y < height; y++)
+			long n = 0;
+			long sumX = 0;
+			long sumY = 0;
+			long sumXX = 0;
+			long sumYY = 0;
+			long sumXY = 0;
+			long[] words = image.words();
+			int wordsPerRow = image.wordsPerRow();
+			for (int y = 0; y < image.height(); y++)
 			{
-				for (int x = 0; x < width; x++)
+				long rowCount = 0;
+				long rowSumX = 0;
+				long rowSumXX = 0;
+				for (int w = 0; w < wordsPerRow; w++)
 				{
-					if (gray[y][x] >= 128)
+					long bits = words[y * wordsPerRow + w];
+					while (bits != 0)
 					{
-						edgePixels.add(new int[] {x, y});
+						long x = ((long) w << 6) + Long.numberOfTrailingZeros(bits);
+						bits &= bits - 1;
+						rowCount++;
+						rowSumX += x;
+						rowSumXX += x * x;
 					}
 				}
+				n += rowCount;
+				sumX += rowSumX;
+				sumY += rowCount * y;
+				sumXX += rowSumXX;
+				sumYY += rowCount * y * y;
+				sumXY += rowSumX * y;
 			}
 
-			if (edgePixels.isEmpty())
+			if (n == 0)
 			{
-				return new CVOrientationResult(image, null, null, 0d, 0d, 0d, parameter);
+				return new CVOrientationResult(original, image, false, 0d, 0d, 0d, parameter);
 			}
 
-			BufferedImage filteredImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-			for (int y = 0; y < height; y++)
-			{
-				for (int x = 0; x < width; x++)
-				{
-					filteredImage.setRGB(x, y, Color.BLACK.getRGB());
-				}
-			}
-			for (int[] pixel : edgePixels)
-			{
-				filteredImage.setRGB(pixel[0], pixel[1], Color.WHITE.getRGB());
-			}
+			double meanX = (double) sumX / n;
+			double meanY = (double) sumY / n;
 
-			double sumX = 0.0;
-			double sumY = 0.0;
-			int n = edgePixels.size();
-			for (int[] pt : edgePixels)
-			{
-				sumX += pt[0];
-				sumY += pt[1];
-			}
-			double meanX = sumX / n;
-			double meanY = sumY / n;
-
-			double sxx = 0.0;
-			double syy = 0.0;
-			double sxy = 0.0;
-			for (int[] pt : edgePixels)
-			{
-				double dx = pt[0] - meanX;
-				double dy = pt[1] - meanY;
-				sxx += dx * dx;
-				syy += dy * dy;
-				sxy += dx * dy;
-			}
+			double sxx = sumXX - sumX * meanX;
+			double syy = sumYY - sumY * meanY;
+			double sxy = sumXY - sumX * meanY;
 
 			double trace = sxx + syy;
 			double diff = sxx - syy;
@@ -216,53 +187,45 @@ public class CVOrientationResult extends CVResult
 				orientationStrength = (lambdaMax - lambdaMin) / (lambdaMax + lambdaMin);
 			}
 
-			double symmetry = computeMirrorSymmetry(edgePixels, meanX, meanY, vx, vy, width, height);
+			double symmetry = computeMirrorSymmetry(image, n, meanX, meanY, vx, vy);
 
-			return new CVOrientationResult(original, image, filteredImage, angleRounded, orientationStrength, symmetry, parameter);
-		});
+			return new CVOrientationResult(original, image, true, angleRounded, orientationStrength, symmetry, parameter);
+		}, executor);
 	}
 
-	private static double computeMirrorSymmetry(List<int[]> edgePixels, double meanX, double meanY, double vx, double vy, int width, int height)
+	private static double computeMirrorSymmetry(BinaryImage image, long total, double meanX, double meanY, double vx, double vy)
 	{
-		Set<Long> edgeSet = new HashSet<>(edgePixels.size());
-		for (int[] p : edgePixels)
-		{
-			int x = p[0];
-			int y = p[1];
-			long packed = ((long) y << 20) | (long) x;
-			edgeSet.add(packed);
-		}
-
-		int total = edgePixels.size();
+		int width = image.width();
+		int height = image.height();
+		long[] words = image.words();
+		int wordsPerRow = image.wordsPerRow();
 		int matched = 0;
 
-		for (int[] p : edgePixels)
+		for (int y = 0; y < height; y++)
 		{
-			double px = p[0];
-			double py = p[1];
-
-			double dx  = px - meanX;
-			double dy  = py - meanY;
-
-			double dot = dx*vx + dy*vy;
+			double dy = y - meanY;
+			for (int w = 0; w < wordsPerRow; w++)
+			{
+				long bits = words[y * wordsPerRow + w];
+				while (bits != 0)
+				{
+					int x = (w << 6) + Long.numberOfTrailingZeros(bits);
+					bits &= bits - 1;
 
-			double rx = meanX + 2*dot*vx - dx;
-			double ry = meanY + 2*dot*vy - dy;
+					double dx = x - meanX;
+					double dot = dx * vx + dy * vy;
 
-			int rxi = (int) Math.round(rx);
-			int ryi = (int) Math.round(ry);
+					int rxi = (int) Math.round(meanX + 2 * dot * vx - dx);
+					int ryi = (int) Math.round(meanY + 2 * dot * vy - dy);
 
-			if (rxi >= 0 && rxi < width && ryi >= 0 && ryi < height)
-			{
-				long packedRef = ((long) ryi << 20) | (long) rxi;
-				if (edgeSet.contains(packedRef))
-				{
-					matched++;
+					if (rxi >= 0 && rxi < width && ryi >= 0 && ryi < height && image.get(rxi, ryi))
+					{
+						matched++;
+					}
 				}
 			}
 		}
 
 		return (double) matched / (double) total;
 	}
-
 }
@@ -1,43 +1,56 @@
 package com.telemetryparser.core.fixed;
 
-import com.telemetryparser.ui.DebugWindow;
+import com.telemetryparser.settings.BlurModeSetting;
 import com.telemetryparser.ui.components.slider.SliderSetting;
 import com.telemetryparser.util.ImageUtil;
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.image.ImagePreprocessor;
 import java.awt.image.BufferedImage;
 
 public abstract class CVResult
 {
 	private final BufferedImage original;
-	private final BufferedImage processed;
-	public CVResult(BufferedImage original, BufferedImage processed)
+	private final BinaryImage binary;
+	private BufferedImage processed;
+	public CVResult(BufferedImage original, BinaryImage binary)
 	{
 		this.original = original;
-		this.processed = processed;
+		this.binary = binary;
 	}
 
 	public BufferedImage getOriginalImage()
 	{
 		return original;
 	}
-	public BufferedImage getProcessedImage()
+
+	public BinaryImage getBinaryImage()
+	{
+		return binary;
+	}
+
+	public synchronized BufferedImage getProcessedImage()
 	{
+		if (processed == null && binary != null)
+		{
+			processed = binary.toImage();
+		}
 		return processed;
 	}
 
-	static BufferedImage preprocessImage(BufferedImage img, boolean applyScale)
+	static BinaryImage preprocessImage(BufferedImage img, boolean applyScale)
 	{
 		if (img == null)
 		{
 			return null;
 		}
 
-		BufferedImage scaled = (applyScale) ? ImageUtil.scaleUpImage(img, DebugWindow.getSettingValue(SliderSetting.SCALE)) : img;
+		BufferedImage scaled = (applyScale) ? ImageUtil.scaleUpImage(img, SliderSetting.SCALE.value()) : img;
 
-		double radius = DebugWindow.getSettingValue(SliderSetting.RADIUS);
-		double amount = DebugWindow.getSettingValue(SliderSetting.AMOUNT);
-		int thresh = (int) Math.round(DebugWindow.getSettingValue(SliderSetting.UNSHARP_THRESHOLD) * 255);
-		BufferedImage sharpened = ImageUtil.unsharpMask(scaled, radius, amount, thresh);
+		double radius = SliderSetting.RADIUS.value();
+		double amount = SliderSetting.AMOUNT.value();
+		int thresh = (int) Math.round(SliderSetting.UNSHARP_THRESHOLD.value() * 255);
+		int bwThreshold = (int) SliderSetting.BW_THRESHOLD.value();
 
-		return ImageUtil.thresholdBlackWhite(sharpened,(int) DebugWindow.getSettingValue(SliderSetting.BW_THRESHOLD));
+		return ImagePreprocessor.forCurrentThread().binarize(scaled, radius, BlurModeSetting.get(), amount, thresh, bwThreshold);
 	}
 }
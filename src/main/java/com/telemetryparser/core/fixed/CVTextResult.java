@@ -6,13 +6,27 @@ import com.telemetryparser.settings.Preset;
 import com.telemetryparser.util.TesseractManager;
 import com.telemetryparser.util.UnitTranslation;
 import com.telemetryparser.util.Util;
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.ocr.GlyphShape;
+import com.telemetryparser.util.ocr.GlyphTemplates;
+import com.telemetryparser.util.ocr.OcrCache;
+import com.telemetryparser.util.ocr.OcrProfile;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class CVTextResult extends CVResult
 {
 	private String result;
-	public CVTextResult(BufferedImage original, BufferedImage processed, String result)
+	private OcrCache.Key cacheKey;
+	private List<GlyphShape> glyphs;
+
+	public CVTextResult(BufferedImage original, BinaryImage processed, String result)
 	{
 		super(original, processed);
 		this.result = result;
@@ -33,12 +47,69 @@ public class CVTextResult extends CVResult
 		result = Util.parseTime(result, timePrefix);
 	}
 
-	public static CompletableFuture<CVResult> fromImageAsync(BufferedImage image)
+	public static CompletableFuture<CVResult> fromImageAsync(BufferedImage image, OcrProfile profile, GlyphTemplates glyphTemplates, Executor executor)
 	{
 		return CompletableFuture.supplyAsync(() ->
 		{
-			BufferedImage preprocessed = preprocessImage(image, false);
-			return new CVTextResult(image, preprocessed, TesseractManager.ocr(preprocessed));
+			BinaryImage preprocessed = preprocessImage(image, false);
+			CVTextResult result = new CVTextResult(image, preprocessed, null);
+			if (preprocessed == null)
+			{
+				result.result = "";
+				return result;
+			}
+
+			result.cacheKey = OcrCache.key(preprocessed, TesseractManager.generation(profile).cacheContext());
+			result.result = TesseractManager.cache().get(result.cacheKey);
+			if (result.result == null)
+			{
+				result.glyphs = GlyphShape.segment(preprocessed);
+				result.result = result.glyphs.isEmpty() ? "" : glyphTemplates.recognize(result.glyphs);
+				if (result.result != null)
+				{
+					TesseractManager.cache().put(result.cacheKey, result.result);
+				}
+			}
+			return result;
+		}, executor);
+	}
+
+	public boolean needsOcr()
+	{
+		return result == null;
+	}
+
+	public static CompletableFuture<Void> recognizeAllAsync(Map<Parameter, CVTextResult> pending, GlyphTemplates glyphTemplates, Executor executor)
+	{
+		Map<OcrProfile, Map<Parameter, BinaryImage>> batches = new EnumMap<>(OcrProfile.class);
+		for (Map.Entry<Parameter, CVTextResult> entry : pending.entrySet())
+		{
+			OcrProfile profile = entry.getKey().type.ocrProfile();
+			batches.computeIfAbsent(profile, p -> new LinkedHashMap<>()).put(entry.getKey(), entry.getValue().getBinaryImage());
+		}
+
+		List<CompletableFuture<Map<Parameter, String>>> futures = new ArrayList<>();
+		for (Map.Entry<OcrProfile, Map<Parameter, BinaryImage>> batch : batches.entrySet())
+		{
+			futures.add(TesseractManager.ocrAsync(batch.getKey(), batch.getValue(), executor));
+		}
+
+		return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenRun(() ->
+		{
+			Map<Parameter, String> texts = new EnumMap<>(Parameter.class);
+			for (CompletableFuture<Map<Parameter, String>> future : futures)
+			{
+				texts.putAll(future.resultNow());
+			}
+
+			for (Map.Entry<Parameter, CVTextResult> entry : pending.entrySet())
+			{
+				CVTextResult textResult = entry.getValue();
+				textResult.result = texts.getOrDefault(entry.getKey(), "");
+				glyphTemplates.learn(textResult.glyphs, textResult.result);
+				TesseractManager.cache().put(textResult.cacheKey, textResult.result);
+				textResult.glyphs = null;
+			}
 		});
 	}
 
@@ -0,0 +1,5 @@
+package com.telemetryparser.core.fixed;
+
+public record CompletedFrame(long queuedNanos, FrameAnalysisResult result)
+{
+}
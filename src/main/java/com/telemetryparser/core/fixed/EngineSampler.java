@@ -0,0 +1,130 @@
+package com.telemetryparser.core.fixed;
+
+import com.telemetryparser.settings.Settings;
+import com.telemetryparser.util.EngineLocation;
+import com.telemetryparser.util.ImageUtil;
+import com.telemetryparser.util.ROIRatios;
+import com.telemetryparser.util.image.ImagePreprocessor;
+import com.telemetryparser.util.image.PackedRaster;
+import java.awt.Rectangle;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class EngineSampler
+{
+	private static final int WINDOW = 3;
+	private static final int SAMPLES = WINDOW * WINDOW;
+	private static volatile boolean enabled = Boolean.parseBoolean(Settings.getProperty("setting", "engineSampling", "true"));
+
+	private final Map<Integer, EngineLocation> engineMap;
+	private final ROIRatios ratios;
+	private final int width;
+	private final int height;
+	private final int stride;
+	private final int[] engineNumbers;
+	private final EngineLocation[] locations;
+	private final int[] offsets;
+
+	private EngineSampler(Map<Integer, EngineLocation> engineMap, ROIRatios ratios, int width, int height, int stride)
+	{
+		this.engineMap = engineMap;
+		this.ratios = ratios;
+		this.width = width;
+		this.height = height;
+		this.stride = stride;
+
+		int engineCount = engineMap == null ? 0 : engineMap.size();
+		engineNumbers = new int[engineCount];
+		locations = new EngineLocation[engineCount];
+		offsets = new int[engineCount * SAMPLES];
+
+		Rectangle roi = ratios == null ? null : ImageUtil.computeROI(width, height, ratios);
+		int engine = 0;
+		if (engineMap != null)
+		{
+			for (Map.Entry<Integer, EngineLocation> entry : engineMap.entrySet())
+			{
+				engineNumbers[engine] = entry.getKey();
+				locations[engine] = entry.getValue();
+				compileWindow(roi, entry.getValue(), engine * SAMPLES);
+				engine++;
+			}
+		}
+	}
+
+	public static EngineSampler compile(Map<Integer, EngineLocation> engineMap, ROIRatios ratios, PackedRaster frame)
+	{
+		return new EngineSampler(engineMap, ratios, frame.width(), frame.height(), frame.stride());
+	}
+
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	public static void setEnabled(boolean enabled)
+	{
+		EngineSampler.enabled = enabled;
+		Settings.setProperty("setting", "engineSampling", String.valueOf(enabled));
+	}
+
+	public boolean matches(Map<Integer, EngineLocation> engineMap, ROIRatios ratios, PackedRaster frame)
+	{
+		return this.engineMap == engineMap
+			&& this.ratios == ratios
+			&& engineNumbers.length == (engineMap == null ? 0 : engineMap.size())
+			&& width == frame.width()
+			&& height == frame.height()
+			&& stride == frame.stride();
+	}
+
+	public CVEngineData sample(PackedRaster frame, double amount, int unsharpThreshold, int bwThreshold)
+	{
+		int[] data = frame.data();
+		int base = frame.offset();
+		int[] gray = new int[SAMPLES];
+
+		Map<Integer, EngineState> engineStates = new LinkedHashMap<>();
+		for (int engine = 0; engine < engineNumbers.length; engine++)
+		{
+			int start = engine * SAMPLES;
+			boolean active = offsets[start] >= 0;
+			if (active)
+			{
+				int sum = 0;
+				for (int i = 0; i < SAMPLES; i++)
+				{
+					gray[i] = data[base + offsets[start + i]] & 0xFF;
+					sum += gray[i];
+				}
+				int localBlur = (sum + SAMPLES / 2) / SAMPLES;
+				for (int i = 0; i < SAMPLES && active; i++)
+				{
+					active = ImagePreprocessor.sharpen(gray[i], localBlur, amount, unsharpThreshold) > bwThreshold;
+				}
+			}
+			engineStates.put(engineNumbers[engine], new EngineState(locations[engine], active));
+		}
+		return new CVEngineData(engineStates);
+	}
+
+	private void compileWindow(Rectangle roi, EngineLocation location, int start)
+	{
+		int left = location.middle().x - WINDOW / 2;
+		int top = location.middle().y - WINDOW / 2;
+		if (roi == null || left < 0 || top < 0 || left + WINDOW > roi.width || top + WINDOW > roi.height)
+		{
+			offsets[start] = -1;
+			return;
+		}
+
+		int i = start;
+		for (int dy = 0; dy < WINDOW; dy++)
+		{
+			for (int dx = 0; dx < WINDOW; dx++)
+			{
+				offsets[i++] = (roi.y + top + dy) * stride + roi.x + left + dx;
+			}
+		}
+	}
+}
@@ -28,6 +28,11 @@ public record FrameAnalysisResult(FrameData frameData, Map<Parameter, CVResult>
 	}
 
 	public TelemetrySnapshot createSnapshot(int seconds)
+	{
+		return new TelemetrySnapshot(seconds, values(), frameData.systemTime(), frameData.playerTime(), frameData.clockTime());
+	}
+
+	public Map<Parameter, Double> values()
 	{
 		Map<Parameter, Double> numericMap = new LinkedHashMap<>();
 		for(Parameter parameter : Parameter.values())
@@ -79,6 +84,6 @@ public record FrameAnalysisResult(FrameData frameData, Map<Parameter, CVResult>
 				numericMap.put(parameter, null);
 			}
 		}
-		return new TelemetrySnapshot(seconds, numericMap, frameData.systemTime(), frameData.playerTime());
+		return numericMap;
 	}
 }
@@ -1,5 +1,6 @@
 package com.telemetryparser.core.fixed;
 
+import com.telemetryparser.core.ClockDomain;
 import com.telemetryparser.core.Parameter;
 import com.telemetryparser.core.TelemetrySnapshot;
 import com.telemetryparser.timeline.Branch;
@@ -16,9 +17,9 @@ public class FrameBranchManager
 	private final List<Branch> branches = new ArrayList<>();
 	private long branchCounter = 0;
 
-	public BranchResult handleFrame(TelemetrySnapshot candidate)
+	public BranchResult handleFrame(TelemetrySnapshot candidate, ClockDomain domain)
 	{
-		List<Branch> viableBranches = findViableBranches(candidate.getSystemTime(), candidate.getPlayerTime());
+		List<Branch> viableBranches = findViableBranches(candidate, domain);
 		if(viableBranches.isEmpty())
 		{
 			return createNewBranch().addSnapshot(candidate);
@@ -53,12 +54,12 @@ public class FrameBranchManager
 		return branch;
 	}
 
-	private List<Branch> findViableBranches(long systemTime, long playerTime)
+	private List<Branch> findViableBranches(TelemetrySnapshot candidate, ClockDomain domain)
 	{
 		List<Branch> viable = new ArrayList<>();
 		for (Branch branch : branches)
 		{
-			if (branch.canAccept(systemTime, playerTime))
+			if (branch.canAccept(candidate, domain))
 			{
 				viable.add(branch);
 			}
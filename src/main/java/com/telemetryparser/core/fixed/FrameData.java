@@ -1,6 +1,13 @@
 package com.telemetryparser.core.fixed;
 
+import com.telemetryparser.core.ClockDomain;
 import com.telemetryparser.settings.Preset;
 import java.awt.image.BufferedImage;
 
-public record FrameData(BufferedImage frame, long playerTime, long systemTime, Preset preset) {}
+public record FrameData(BufferedImage frame, long playerTime, long systemTime, ClockDomain clockDomain, Preset preset)
+{
+	public long clockTime()
+	{
+		return clockDomain.timestamp(playerTime, systemTime);
+	}
+}
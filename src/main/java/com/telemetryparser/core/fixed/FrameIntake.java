@@ -0,0 +1,154 @@
+package com.telemetryparser.core.fixed;
+
+import com.telemetryparser.settings.Settings;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+public class FrameIntake
+{
+	public enum Policy
+	{
+		DROP_OLDEST("Drop Oldest"),
+		DROP_NEWEST("Drop Newest"),
+		KEEP_EVERY_NTH("Keep Every Nth"),
+		BLOCK("Block");
+
+		private final String displayName;
+
+		Policy(String displayName)
+		{
+			this.displayName = displayName;
+		}
+
+		@Override
+		public String toString()
+		{
+			return displayName;
+		}
+	}
+
+	private final LinkedBlockingDeque<QueuedFrame> queue;
+	private final int capacity;
+	private final Consumer<QueuedFrame> dropHandler;
+	private final LongAdder accepted = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private volatile Policy policy;
+	private volatile int keepEvery;
+
+	public FrameIntake(int capacity, Policy policy, int keepEvery, Consumer<QueuedFrame> dropHandler)
+	{
+		this.capacity = capacity;
+		this.queue = new LinkedBlockingDeque<>(capacity);
+		this.policy = policy;
+		this.keepEvery = Math.max(1, keepEvery);
+		this.dropHandler = dropHandler;
+	}
+
+	public static FrameIntake fromSettings(int capacity, Consumer<QueuedFrame> dropHandler)
+	{
+		Policy policy;
+		int keepEvery;
+		try
+		{
+			policy = Policy.valueOf(Settings.getProperty("setting", "intakePolicy", Policy.DROP_OLDEST.name()));
+			keepEvery = Integer.parseInt(Settings.getProperty("setting", "intakeKeepEvery", "2"));
+		}
+		catch (IllegalArgumentException e)
+		{
+			policy = Policy.DROP_OLDEST;
+			keepEvery = 2;
+		}
+		return new FrameIntake(capacity, policy, keepEvery, dropHandler);
+	}
+
+	public Policy getPolicy()
+	{
+		return policy;
+	}
+
+	public void setPolicy(Policy policy)
+	{
+		this.policy = policy;
+	}
+
+	public int getKeepEvery()
+	{
+		return keepEvery;
+	}
+
+	public void setKeepEvery(int keepEvery)
+	{
+		this.keepEvery = Math.max(1, keepEvery);
+	}
+
+	public void offer(QueuedFrame frame) throws InterruptedException
+	{
+		switch (policy)
+		{
+			case BLOCK -> queue.putLast(frame);
+			case DROP_NEWEST ->
+			{
+				if (!queue.offerLast(frame))
+				{
+					drop(frame);
+					return;
+				}
+			}
+			case KEEP_EVERY_NTH ->
+			{
+				if (frame.frameNumber() % keepEvery != 0)
+				{
+					drop(frame);
+					return;
+				}
+				offerDroppingOldest(frame);
+			}
+			case DROP_OLDEST -> offerDroppingOldest(frame);
+		}
+		accepted.increment();
+	}
+
+	private void offerDroppingOldest(QueuedFrame frame)
+	{
+		while (!queue.offerLast(frame))
+		{
+			QueuedFrame oldest = queue.pollFirst();
+			if (oldest != null)
+			{
+				drop(oldest);
+			}
+		}
+	}
+
+	private void drop(QueuedFrame frame)
+	{
+		dropped.increment();
+		dropHandler.accept(frame);
+	}
+
+	public QueuedFrame take() throws InterruptedException
+	{
+		return queue.takeFirst();
+	}
+
+	public int depth()
+	{
+		return queue.size();
+	}
+
+	public int capacity()
+	{
+		return capacity;
+	}
+
+	public long accepted()
+	{
+		return accepted.sum();
+	}
+
+	public long dropped()
+	{
+		return dropped.sum();
+	}
+}
@@ -1,5 +1,6 @@
 package com.telemetryparser.core.fixed;
 
+import com.telemetryparser.core.ClockDomain;
 import com.telemetryparser.core.FrameStatus;
 import com.telemetryparser.core.Parameter;
 import com.telemetryparser.core.ParameterType;
@@ -13,31 +14,33 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import javax.swing.JFileChooser;
-import javax.swing.JOptionPane;
 
 public class FrameManager
 {
-	private final PriorityBlockingQueue<QueuedFrame> frameQueue = new PriorityBlockingQueue<>(100, Comparator.comparingLong(q -> q.frameData().systemTime()));
-	private final ExecutorService executor = Executors.newFixedThreadPool(16);
+	private static final int MAX_IN_FLIGHT = 16;
+	private static final int INTAKE_CAPACITY = 32;
+	private static final int REORDER_CAPACITY = 256;
+	private static final long DRAIN_STALL_MILLIS = 10000;
+	private final FrameIntake intake = FrameIntake.fromSettings(INTAKE_CAPACITY, this::frameDropped);
+	private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+	private final ConcurrentMap<Long, FrameScheduler.Job> inFlightJobs = new ConcurrentHashMap<>();
 	private final AtomicLong frameCounter = new AtomicLong(0);
-	private final ConcurrentMap<Long, FrameAnalysisResult> completedResults = new ConcurrentHashMap<>();
-	private long nextToDispatch = 0;
+	private final ReorderBuffer<CompletedFrame> reorderBuffer = new ReorderBuffer<>("FrameDispatchLoop", REORDER_CAPACITY, loadReorderTimeout(), this::handleFrameCompleted, this::frameTimedOut, PipelineMetrics.get().stage(PipelineMetrics.Stage.REORDER_WAIT));
 	private final AtomicLong lastJump = new AtomicLong(-3);
+	private final Thread dispatcherThread;
 	private final List<FrameCompletedListener> frameCompletedListeners = new CopyOnWriteArrayList<>();
 	private final FrameBranchManager branchManager = new FrameBranchManager();
 	private final DataAccumulator dataAccumulator = new DataAccumulator(1, 30, ParameterType.ENGINES, ParameterType.ENGINES_VARIANT);
-	private long lastFrameSystemTime = -3;
+	private long lastFrameClockTime = -3;
 	private long totalProcessedFrames = 0;
 	private long totalFlaggedFrames = 0;
 
@@ -49,55 +52,116 @@ public class FrameManager
 
 	public FrameManager()
 	{
-		Thread dispatcherThread = new Thread(this::frameProcessingLoop, "FrameProcessingLoop");
+		reorderBuffer.start();
+		dispatcherThread = new Thread(this::frameProcessingLoop, "FrameProcessingLoop");
 		dispatcherThread.start();
 	}
 
+	private static long loadReorderTimeout()
+	{
+		try
+		{
+			return Long.parseLong(Settings.getProperty("setting", "reorderTimeoutMs", "2000"));
+		}
+		catch (NumberFormatException e)
+		{
+			return 2000;
+		}
+	}
+
 	public void queueFrame(FrameData frameData)
 	{
 		long frameNumber = frameCounter.getAndIncrement();
-		frameQueue.offer(new QueuedFrame(frameNumber, frameData));
+		QueuedFrame queuedFrame = new QueuedFrame(frameNumber, frameData);
+		try
+		{
+			intake.offer(queuedFrame);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			frameDropped(queuedFrame);
+		}
 	}
 
-	private void frameProcessingLoop()
+	public void awaitDrained() throws InterruptedException
 	{
-		try
+		long queued = frameCounter.get();
+		long stallMillis = Math.max(DRAIN_STALL_MILLIS, 4 * reorderBuffer.getTimeoutMillis());
+		long waitingFor;
+		while ((waitingFor = reorderBuffer.nextSequence()) < queued)
 		{
-			while (!Thread.currentThread().isInterrupted())
+			if (!reorderBuffer.awaitSequence(waitingFor + 1, stallMillis))
 			{
-				QueuedFrame queuedFrame = frameQueue.take();
-
-				executor.submit(() ->
-				{
-					FrameProcessor frameProcessor = new FrameProcessor(queuedFrame.frameData());
-					FrameAnalysisResult result = frameProcessor.compute();
-
-					completedResults.put(queuedFrame.frameNumber(), result);
-					dispatchCompletedFrameInOrder();
-				});
+				throw new IllegalStateException("Frame " + waitingFor + " did not complete within " + stallMillis + " ms");
 			}
 		}
-		catch (InterruptedException e)
+	}
+
+	public void close()
+	{
+		dispatcherThread.interrupt();
+		reorderBuffer.close();
+	}
+
+	public FrameIntake getIntake()
+	{
+		return intake;
+	}
+
+	public ReorderBuffer<CompletedFrame> getReorderBuffer()
+	{
+		return reorderBuffer;
+	}
+
+	private void frameDropped(QueuedFrame queuedFrame)
+	{
+		reorderBuffer.skip(queuedFrame.frameNumber());
+	}
+
+	private void frameTimedOut(long frameNumber)
+	{
+		FrameScheduler.Job job = inFlightJobs.get(frameNumber);
+		if (job != null)
 		{
-			Thread.currentThread().interrupt();
+			job.cancel();
 		}
 	}
 
-	private void dispatchCompletedFrameInOrder()
+	private void frameProcessingLoop()
 	{
-		synchronized (this)
+		try
 		{
-			while (true)
+			while (!Thread.currentThread().isInterrupted())
 			{
-				FrameAnalysisResult nextResult = completedResults.remove(nextToDispatch);
-				if (nextResult == null)
+				inFlight.acquire();
+				QueuedFrame queuedFrame;
+				try
 				{
-					break;
+					queuedFrame = intake.take();
 				}
-				handleFrameCompleted(nextResult);
-				nextToDispatch++;
+				catch (InterruptedException e)
+				{
+					inFlight.release();
+					throw e;
+				}
+
+				PipelineMetrics.get().stage(PipelineMetrics.Stage.INTAKE_WAIT).recordSince(queuedFrame.queuedNanos());
+				FrameScheduler.Job job = FrameScheduler.get().open(queuedFrame.frameNumber());
+				inFlightJobs.put(queuedFrame.frameNumber(), job);
+				reorderBuffer.expect(queuedFrame.frameNumber());
+				new FrameProcessor(queuedFrame.frameData()).computeAsync(job).whenComplete((result, error) ->
+				{
+					inFlightJobs.remove(queuedFrame.frameNumber());
+					reorderBuffer.publish(queuedFrame.frameNumber(), new CompletedFrame(queuedFrame.queuedNanos(), result != null ? result : new FrameAnalysisResult(queuedFrame.frameData(), new LinkedHashMap<>())));
+					inFlight.release();
+				});
 			}
 		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
 	}
 
 	private boolean videoPlayerSeekedRecently()
@@ -105,23 +169,26 @@ public class FrameManager
 		return System.currentTimeMillis() - lastJump.get() < 1000;
 	}
 
-	private void handleFrameCompleted(FrameAnalysisResult frameResult)
+	private void handleFrameCompleted(CompletedFrame completedFrame)
 	{
+		FrameAnalysisResult frameResult = completedFrame.result();
 		Integer seconds = frameResult.getTimeAsSeconds();
 		FrameStatus status = FrameStatus.SUCCESS;
 		boolean seekedRecently = videoPlayerSeekedRecently();
 		if (seekedRecently || seconds == null)
 		{
 			status = seekedRecently ? FrameStatus.RECENT_JUMP : FrameStatus.TIME_PARSE_FAILURE;
-			notifyListeners(new FrameCompletedEvent(frameResult, status));
+			notifyListeners(new FrameCompletedEvent(frameResult, status), completedFrame.queuedNanos());
 			return;
 		}
 
-		long elapsedMs = lastFrameSystemTime < 0 ? 0 : frameResult.frameData().systemTime() - lastFrameSystemTime;
-		lastFrameSystemTime = frameResult.frameData().systemTime();
+		long clockTime = frameResult.frameData().clockTime();
+		long elapsedMs = lastFrameClockTime < 0 ? 0 : clockTime - lastFrameClockTime;
+		lastFrameClockTime = clockTime;
 
+		long branchingStart = System.nanoTime();
 		TelemetrySnapshot snapshot = frameResult.createSnapshot(seconds);
-		BranchResult branchResult = branchManager.handleFrame(snapshot);
+		BranchResult branchResult = branchManager.handleFrame(snapshot, frameResult.frameData().clockDomain());
 		try
 		{
 			dataAccumulator.addSnapshot(snapshot);
@@ -130,6 +197,7 @@ public class FrameManager
 		{
 			e.printStackTrace();
 		}
+		PipelineMetrics.get().stage(PipelineMetrics.Stage.BRANCHING).recordSince(branchingStart);
 
 		totalProcessedFrames++;
 		if (branchResult.outlierFound())
@@ -137,7 +205,7 @@ public class FrameManager
 			totalFlaggedFrames++;
 			status = branchResult.accepted() ? FrameStatus.SUCCESS_BUT_OUTLIER : FrameStatus.SUCCESS_BUT_FLAGGED_AND_OUTLIER;
 		}
-		notifyListeners(new FrameCompletedEvent(elapsedMs, !branchResult.accepted(), totalFlaggedFrames, totalProcessedFrames, branchResult.time(), frameResult, branchResult.finalParameterMap(), status));
+		notifyListeners(new FrameCompletedEvent(elapsedMs, !branchResult.accepted(), totalFlaggedFrames, totalProcessedFrames, branchResult.time(), frameResult, branchResult.finalParameterMap(), status), completedFrame.queuedNanos());
 	}
 
 	public void addFrameCompletedListener(FrameCompletedListener listener)
@@ -145,78 +213,57 @@ public class FrameManager
 		frameCompletedListeners.add(listener);
 	}
 
-	private void notifyListeners(FrameCompletedEvent frameCompletedEvent)
+	private void notifyListeners(FrameCompletedEvent frameCompletedEvent, long queuedNanos)
 	{
+		long start = System.nanoTime();
 		for(FrameCompletedListener listener : frameCompletedListeners)
 		{
 			listener.onFrameCompleted(frameCompletedEvent);
 		}
+		PipelineMetrics metrics = PipelineMetrics.get();
+		metrics.stage(PipelineMetrics.Stage.LISTENERS).recordSince(start);
+		FrameData frameData = frameCompletedEvent.frameAnalysisResult().frameData();
+		if (frameData.clockDomain() == ClockDomain.WALL)
+		{
+			metrics.stage(PipelineMetrics.Stage.END_TO_END).record(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - frameData.systemTime()));
+		}
+		else
+		{
+			metrics.stage(PipelineMetrics.Stage.END_TO_END).recordSince(queuedNanos);
+		}
 	}
 
 	public void timeChanged()
 	{
 		lastJump.set(System.currentTimeMillis());
+		for (FrameScheduler.Job job : inFlightJobs.values())
+		{
+			job.cancel();
+		}
 	}
 
 	public void reset()
 	{
 		totalProcessedFrames = 0;
 		totalFlaggedFrames = 0;
-		lastFrameSystemTime = -3;
+		lastFrameClockTime = -3;
 		lastJump.set(-3);
 		branchManager.clearData();
 	}
 
-	public void writeData()
+	public List<TelemetrySnapshot> getMergedSnapshots()
 	{
-		String existingFileLocation = Settings.getProperty("setting", "saveFileLocation");
-		File defaultLocation = (existingFileLocation != null) ? new File(existingFileLocation) : null;
-
-		JFileChooser fileChooser = (defaultLocation != null && defaultLocation.exists()) ? new JFileChooser(defaultLocation) : new JFileChooser();
-		fileChooser.setDialogTitle("Choose where to save the file");
-		fileChooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
-
-		int userSelection = fileChooser.showSaveDialog(null);
-
-		if (userSelection == JFileChooser.APPROVE_OPTION)
-		{
-			File selectedFile = fileChooser.getSelectedFile();
-
-			if (selectedFile.exists())
-			{
-				JOptionPane.showMessageDialog(null,
-					"File already exists. Please choose a different name or location.", "File Exists", JOptionPane.WARNING_MESSAGE);
-			}
-			else
-			{
-				try
-				{
-					if (selectedFile.createNewFile())
-					{
-						String filePath = selectedFile.getAbsolutePath();
-						writeDataToFile(filePath);
-						Settings.setProperty("setting", "saveFileLocation", selectedFile.getParentFile().getAbsolutePath());
-
-					}
-					else
-					{
-						JOptionPane.showMessageDialog(null, "Could not create the file.", "Error", JOptionPane.ERROR_MESSAGE);
-					}
-				}
-				catch (IOException e)
-				{
-					JOptionPane.showMessageDialog(null,
-						"An I/O error occurred while creating the file:\n" + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
-					System.out.println("An I/O error occurred while creating the file: " + e.getMessage());
-				}
-			}
-		}
+		return branchManager.getMergedBranches();
 	}
 
 	public void writeDataToFile(String filepath)
+	{
+		writeSnapshots(filepath, branchManager.getMergedBranches());
+	}
+
+	public static void writeSnapshots(String filepath, List<TelemetrySnapshot> snapshots)
 	{
 		String header = Parameter.getAsHeader();
-		List<TelemetrySnapshot> snapshots = branchManager.getMergedBranches();
 		try
 		{
 			File file = new File(filepath);
@@ -2,102 +2,276 @@ package com.telemetryparser.core.fixed;
 
 import com.telemetryparser.core.Parameter;
 import com.telemetryparser.core.ParameterType;
+import com.telemetryparser.settings.Settings;
+import com.telemetryparser.util.EngineLocation;
 import com.telemetryparser.util.ImageUtil;
 import com.telemetryparser.util.Util;
+import com.telemetryparser.util.image.PackedRaster;
 import java.awt.image.BufferedImage;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class FrameProcessor
 {
+	public enum Scheduling
+	{
+		ALL_AT_ONCE("All At Once"),
+		CLOCK_FIRST("Clock First"),
+		SPECULATIVE("Speculative");
+
+		private final String displayName;
+
+		Scheduling(String displayName)
+		{
+			this.displayName = displayName;
+		}
+
+		@Override
+		public String toString()
+		{
+			return displayName;
+		}
+	}
+
+	private static final double MAX_SPECULATIVE_FAILURE_RATE = 0.1;
+	private static final double FAILURE_RATE_SMOOTHING = 0.05;
+	private static volatile Scheduling scheduling = loadScheduling();
+	private static volatile double clockFailureRate = 0;
+
 	private final FrameData queuedFrame;
+	private final PipelineMetrics metrics = PipelineMetrics.get();
 	public FrameProcessor(FrameData frame)
 	{
 		this.queuedFrame = frame;
 	}
 
-	public FrameAnalysisResult compute()
+	public static Scheduling getScheduling()
+	{
+		return scheduling;
+	}
+
+	public static void setScheduling(Scheduling scheduling)
+	{
+		FrameProcessor.scheduling = scheduling;
+		Settings.setProperty("setting", "frameScheduling", scheduling.name());
+	}
+
+	public static double getClockFailureRate()
+	{
+		return clockFailureRate;
+	}
+
+	private static Scheduling loadScheduling()
 	{
-		Map<Parameter, CVResult> parameterMap = new LinkedHashMap<>();
+		try
+		{
+			return Scheduling.valueOf(Settings.getProperty("setting", "frameScheduling", Scheduling.SPECULATIVE.name()));
+		}
+		catch (IllegalArgumentException e)
+		{
+			return Scheduling.SPECULATIVE;
+		}
+	}
+
+	private static synchronized void recordClock(boolean success)
+	{
+		clockFailureRate += FAILURE_RATE_SMOOTHING * ((success ? 0 : 1) - clockFailureRate);
+	}
+
+	private static boolean speculate()
+	{
+		return switch (scheduling)
+		{
+			case ALL_AT_ONCE -> true;
+			case CLOCK_FIRST -> false;
+			case SPECULATIVE -> clockFailureRate <= MAX_SPECULATIVE_FAILURE_RATE;
+		};
+	}
+
+	public CompletableFuture<FrameAnalysisResult> computeAsync(FrameScheduler.Job job)
+	{
+		long start = System.nanoTime();
+		Map<Parameter, CompletableFuture<CVResult>> futureMap = new LinkedHashMap<>();
+		CompletableFuture<FrameAnalysisResult> result;
 		try
 		{
 			BufferedImage frame = queuedFrame.frame();
-			Map<Parameter, CompletableFuture<CVResult>> futureMap = new LinkedHashMap<>();
-			for (Parameter parameter : Parameter.values())
-			{
-				BufferedImage image = ImageUtil.extractROI(frame, queuedFrame.preset().ratios().get(parameter));
+			Executor cpu = job.cpu();
+			boolean speculative = speculate();
 
-				CompletableFuture<CVResult> future = switch (parameter.type)
-				{
-					case FUEL -> CVFuelResult.fromImageAsync(image, frame.getWidth());
-					case ENGINES -> switch (parameter)
-					{
-						case STAGE_1_ENGINES -> CVEngineResult.fromImageAsync(image, queuedFrame.preset().stage1EngineMap(), -1);
-						case STAGE_2_ENGINES -> CVEngineResult.fromImageAsync(image, queuedFrame.preset().stage2EngineMap(), -1);
-						default -> null;
-					};
-					case PITCH -> CVOrientationResult.fromImageAsync(image, parameter);
-					case ENGINES_VARIANT -> null;
-					default -> CVTextResult.fromImageAsync(image);
-				};
-
-				if (future != null)
+			result = CompletableFuture.supplyAsync(() ->
+			{
+				PackedRaster frameRaster = PackedRaster.of(frame);
+				submit(job, futureMap, frame, frameRaster, Parameter.TIME);
+				if (speculative)
 				{
-					futureMap.put(parameter, future);
+					submitRemaining(job, futureMap, frame, frameRaster);
 				}
-			}
+				return frameRaster;
+			}, cpu).thenCompose(frameRaster -> futureMap.get(Parameter.TIME)
+				.thenCompose(timeResult -> resolveClockAsync(job, timeResult))
+				.thenComposeAsync(seconds ->
+				{
+					metrics.stage(PipelineMetrics.Stage.CLOCK).recordSince(start);
+					boolean clockValid = seconds != null && seconds >= -6;
+					recordClock(clockValid);
+					if (!clockValid)
+					{
+						job.cancel();
+						return CompletableFuture.completedFuture(emptyResult());
+					}
 
-			Double seconds = null;
-			if(futureMap.get(Parameter.TIME).get() instanceof CVTextResult timeResult)
+					if (!speculative)
+					{
+						submitRemaining(job, futureMap, frame, frameRaster);
+					}
+					return CompletableFuture.allOf(futureMap.values().toArray(CompletableFuture[]::new))
+						.thenCompose(ignored -> recognizePendingTextAsync(job, futureMap))
+						.thenApplyAsync(ignored -> assemble(futureMap), cpu);
+				}, cpu));
+		}
+		catch (Exception e)
+		{
+			result = CompletableFuture.failedFuture(e);
+		}
+
+		return result.exceptionally(e ->
+		{
+			job.cancel();
+			return emptyResult();
+		}).whenComplete((ignored, error) -> metrics.stage(PipelineMetrics.Stage.PROCESSING).recordSince(start));
+	}
+
+	private FrameAnalysisResult emptyResult()
+	{
+		return new FrameAnalysisResult(queuedFrame, new LinkedHashMap<>());
+	}
+
+	private FrameAnalysisResult assemble(Map<Parameter, CompletableFuture<CVResult>> futureMap)
+	{
+		Map<Parameter, CVResult> parameterMap = new LinkedHashMap<>();
+		for (Parameter parameter : futureMap.keySet())
+		{
+			CVResult result = futureMap.get(parameter).resultNow();
+			if(result instanceof CVTextResult textResult)
 			{
-				String time = Util.parseTime(timeResult.getResult(), queuedFrame.preset().timePrefix());
-				try
+				if(parameter.type != ParameterType.TIME)
 				{
-					seconds = (double) Util.determineSeconds(time);
+					if(queuedFrame.preset().usesComma())
+					{
+						textResult.replaceComma();
+					}
 				}
-				catch (Exception ignored)
+				else
 				{
-
+					textResult.parseAsTime(queuedFrame.preset().timePrefix());
 				}
+				if(parameter == Parameter.TIME || !ImageUtil.checkForSuspiciousTextImage(result.getBinaryImage()))
+				{
+					parameterMap.put(parameter, result);
+				}
+			}
+			else
+			{
+				parameterMap.put(parameter, result);
 			}
+		}
+		return new FrameAnalysisResult(queuedFrame, parameterMap);
+	}
 
-			if(seconds != null && seconds >= -6)
+	private CompletableFuture<Double> resolveClockAsync(FrameScheduler.Job job, CVResult result)
+	{
+		if (!(result instanceof CVTextResult timeResult))
+		{
+			return CompletableFuture.completedFuture(null);
+		}
+
+		CompletableFuture<Void> recognized = CompletableFuture.completedFuture(null);
+		if (timeResult.needsOcr())
+		{
+			long start = System.nanoTime();
+			recognized = job.track(CVTextResult.recognizeAllAsync(Map.of(Parameter.TIME, timeResult), queuedFrame.preset().glyphTemplates(), job.ocr()))
+				.whenComplete((ignored, error) -> metrics.stage(PipelineMetrics.Stage.OCR).recordSince(start));
+		}
+		return recognized.thenApply(ignored ->
+		{
+			String time = Util.parseTime(timeResult.getResult(), queuedFrame.preset().timePrefix());
+			try
 			{
-				for (Parameter parameter : futureMap.keySet())
-				{
-					CVResult result = futureMap.get(parameter).get();
-					if(result instanceof CVTextResult textResult)
-					{
-						if(parameter.type != ParameterType.TIME)
-						{
-							if(queuedFrame.preset().usesComma())
-							{
-								textResult.replaceComma();
-							}
-						}
-						else
-						{
-							textResult.parseAsTime(queuedFrame.preset().timePrefix());
-						}
-						if(parameter == Parameter.TIME || !ImageUtil.checkForSuspiciousTextImage(result.getProcessedImage()))
-						{
-							parameterMap.put(parameter, result);
-						}
-					}
-					else
-					{
-						parameterMap.put(parameter, result);
-					}
+				return (double) Util.determineSeconds(time);
+			}
+			catch (Exception e)
+			{
+				return null;
+			}
+		});
+	}
 
-				}
+	private CompletableFuture<Void> recognizePendingTextAsync(FrameScheduler.Job job, Map<Parameter, CompletableFuture<CVResult>> futureMap)
+	{
+		Map<Parameter, CVTextResult> pending = new LinkedHashMap<>();
+		for (Parameter parameter : futureMap.keySet())
+		{
+			if (parameter.type.isText() && futureMap.get(parameter).resultNow() instanceof CVTextResult textResult && textResult.needsOcr())
+			{
+				pending.put(parameter, textResult);
 			}
 		}
-		catch (Exception ignored)
+		if (pending.isEmpty())
 		{
+			return CompletableFuture.completedFuture(null);
+		}
+		long start = System.nanoTime();
+		return job.track(CVTextResult.recognizeAllAsync(pending, queuedFrame.preset().glyphTemplates(), job.ocr()))
+			.whenComplete((ignored, error) -> metrics.stage(PipelineMetrics.Stage.OCR).recordSince(start));
+	}
 
+	private void submitRemaining(FrameScheduler.Job job, Map<Parameter, CompletableFuture<CVResult>> futureMap, BufferedImage frame, PackedRaster frameRaster)
+	{
+		for (Parameter parameter : Parameter.values())
+		{
+			if (parameter != Parameter.TIME)
+			{
+				submit(job, futureMap, frame, frameRaster, parameter);
+			}
 		}
+	}
 
-		return new FrameAnalysisResult(queuedFrame, parameterMap);
+	private void submit(FrameScheduler.Job job, Map<Parameter, CompletableFuture<CVResult>> futureMap, BufferedImage frame, PackedRaster frameRaster, Parameter parameter)
+	{
+		long start = System.nanoTime();
+		BufferedImage image = ImageUtil.extractROI(frame, queuedFrame.preset().ratios().get(parameter));
+		Executor cpu = job.cpu();
+
+		CompletableFuture<CVResult> future = switch (parameter.type)
+		{
+			case FUEL -> CVFuelResult.fromImageAsync(image, frame.getWidth(), cpu);
+			case ENGINES -> switch (parameter)
+			{
+				case STAGE_1_ENGINES -> computeEngines(frameRaster, image, parameter, queuedFrame.preset().stage1EngineMap(), cpu);
+				case STAGE_2_ENGINES -> computeEngines(frameRaster, image, parameter, queuedFrame.preset().stage2EngineMap(), cpu);
+				default -> null;
+			};
+			case PITCH -> CVOrientationResult.fromImageAsync(image, parameter, cpu);
+			case ENGINES_VARIANT -> null;
+			default -> CVTextResult.fromImageAsync(image, parameter.type.ocrProfile(), queuedFrame.preset().glyphTemplates(), cpu);
+		};
+
+		if (future != null)
+		{
+			futureMap.put(parameter, job.track(future));
+			future.whenComplete((ignored, error) -> metrics.parameter(parameter).recordSince(start));
+		}
+	}
+
+	private CompletableFuture<CVResult> computeEngines(PackedRaster frame, BufferedImage image, Parameter parameter, Map<Integer, EngineLocation> engineMap, Executor executor)
+	{
+		if (EngineSampler.isEnabled())
+		{
+			return CompletableFuture.supplyAsync(() -> CVEngineResult.fromSamples(image, frame, queuedFrame.preset().engineSampler(parameter, engineMap, frame)), executor);
+		}
+		return CVEngineResult.fromImageAsync(image, engineMap, -1, executor);
 	}
 }
@@ -0,0 +1,149 @@
+package com.telemetryparser.core.fixed;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FrameScheduler
+{
+	private static final FrameScheduler shared = new FrameScheduler(Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors());
+
+	private final Lane cpu;
+	private final Lane ocr;
+	private final AtomicLong sequence = new AtomicLong();
+
+	public FrameScheduler(int cpuThreads, int ocrThreads)
+	{
+		this.cpu = new Lane("frame-cpu", cpuThreads);
+		this.ocr = new Lane("frame-ocr", ocrThreads);
+	}
+
+	public static FrameScheduler get()
+	{
+		return shared;
+	}
+
+	public Job open(long frameNumber)
+	{
+		return new Job(frameNumber);
+	}
+
+	public record LaneStats(int active, int queued, long completed)
+	{
+	}
+
+	public LaneStats cpuStats()
+	{
+		return cpu.stats();
+	}
+
+	public LaneStats ocrStats()
+	{
+		return ocr.stats();
+	}
+
+	public class Job
+	{
+		private final long frameNumber;
+		private final Queue<CompletableFuture<?>> tasks = new ConcurrentLinkedQueue<>();
+		private final Executor cpuExecutor;
+		private final Executor ocrExecutor;
+		private volatile boolean cancelled;
+
+		private Job(long frameNumber)
+		{
+			this.frameNumber = frameNumber;
+			this.cpuExecutor = command -> cpu.execute(frameNumber, command);
+			this.ocrExecutor = command -> ocr.execute(frameNumber, command);
+		}
+
+		public long frameNumber()
+		{
+			return frameNumber;
+		}
+
+		public Executor cpu()
+		{
+			return cpuExecutor;
+		}
+
+		public Executor ocr()
+		{
+			return ocrExecutor;
+		}
+
+		public <T> CompletableFuture<T> track(CompletableFuture<T> task)
+		{
+			tasks.add(task);
+			if (cancelled)
+			{
+				task.cancel(false);
+			}
+			return task;
+		}
+
+		public boolean isCancelled()
+		{
+			return cancelled;
+		}
+
+		public void cancel()
+		{
+			cancelled = true;
+			CompletableFuture<?> task;
+			while ((task = tasks.poll()) != null)
+			{
+				task.cancel(false);
+			}
+		}
+	}
+
+	private class Lane
+	{
+		private final ThreadPoolExecutor executor;
+
+		private Lane(String name, int threads)
+		{
+			AtomicInteger counter = new AtomicInteger();
+			executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), runnable ->
+			{
+				Thread thread = new Thread(runnable, name + "-" + counter.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.prestartAllCoreThreads();
+		}
+
+		private void execute(long frameNumber, Runnable command)
+		{
+			executor.execute(new Prioritized(frameNumber, sequence.getAndIncrement(), command));
+		}
+
+		private LaneStats stats()
+		{
+			return new LaneStats(executor.getActiveCount(), executor.getQueue().size(), executor.getCompletedTaskCount());
+		}
+	}
+
+	private record Prioritized(long frameNumber, long sequence, Runnable command) implements Runnable, Comparable<Prioritized>
+	{
+		@Override
+		public void run()
+		{
+			command.run();
+		}
+
+		@Override
+		public int compareTo(Prioritized other)
+		{
+			int byFrame = Long.compare(frameNumber, other.frameNumber);
+			return byFrame != 0 ? byFrame : Long.compare(sequence, other.sequence);
+		}
+	}
+}
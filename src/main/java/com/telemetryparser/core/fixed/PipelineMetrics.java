@@ -0,0 +1,66 @@
+package com.telemetryparser.core.fixed;
+
+import com.telemetryparser.core.Parameter;
+import com.telemetryparser.util.metrics.LatencyHistogram;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class PipelineMetrics
+{
+	public enum Stage
+	{
+		INTAKE_WAIT("Intake wait"),
+		CLOCK("Clock"),
+		OCR("OCR batch"),
+		PROCESSING("Processing"),
+		REORDER_WAIT("Reorder wait"),
+		BRANCHING("Branching"),
+		LISTENERS("Listeners"),
+		END_TO_END("End to end");
+
+		public final String name;
+
+		Stage(String name)
+		{
+			this.name = name;
+		}
+	}
+
+	private static final PipelineMetrics shared = new PipelineMetrics();
+
+	private final Map<Stage, LatencyHistogram> stages = new EnumMap<>(Stage.class);
+	private final Map<Parameter, LatencyHistogram> parameters = new EnumMap<>(Parameter.class);
+
+	public PipelineMetrics()
+	{
+		for (Stage stage : Stage.values())
+		{
+			stages.put(stage, new LatencyHistogram());
+		}
+		for (Parameter parameter : Parameter.values())
+		{
+			parameters.put(parameter, new LatencyHistogram());
+		}
+	}
+
+	public static PipelineMetrics get()
+	{
+		return shared;
+	}
+
+	public LatencyHistogram stage(Stage stage)
+	{
+		return stages.get(stage);
+	}
+
+	public LatencyHistogram parameter(Parameter parameter)
+	{
+		return parameters.get(parameter);
+	}
+
+	public void reset()
+	{
+		stages.values().forEach(LatencyHistogram::reset);
+		parameters.values().forEach(LatencyHistogram::reset);
+	}
+}
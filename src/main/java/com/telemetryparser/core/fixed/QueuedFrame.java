@@ -1,3 +1,9 @@
 package com.telemetryparser.core.fixed;
 
-public record QueuedFrame(long frameNumber, FrameData frameData) { }
+public record QueuedFrame(long frameNumber, FrameData frameData, long queuedNanos)
+{
+	public QueuedFrame(long frameNumber, FrameData frameData)
+	{
+		this(frameNumber, frameData, System.nanoTime());
+	}
+}
@@ -0,0 +1,247 @@
+package com.telemetryparser.core.fixed;
+
+import com.telemetryparser.util.metrics.LatencyHistogram;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+public class ReorderBuffer<T>
+{
+	private record Entry<T>(long sequence, T value, long publishedNanos)
+	{
+	}
+
+	private final AtomicReferenceArray<Entry<T>> slots;
+	private final int mask;
+	private final Map<Long, Entry<T>> overflow = new ConcurrentHashMap<>();
+	private final Consumer<T> sink;
+	private final LongConsumer timeoutHandler;
+	private final LatencyHistogram waitTimes;
+	private final Thread drainThread;
+	private final AtomicLong highestPublished = new AtomicLong(-1);
+	private final AtomicLong highestExpected = new AtomicLong(-1);
+	private final Object progress = new Object();
+	private final AtomicInteger progressWaiters = new AtomicInteger();
+	private final LongAdder delivered = new LongAdder();
+	private final LongAdder gaps = new LongAdder();
+	private final LongAdder timedOut = new LongAdder();
+	private final LongAdder late = new LongAdder();
+	private volatile long next = 0;
+	private volatile long timeoutNanos;
+	private volatile boolean running = true;
+
+	public ReorderBuffer(String name, int capacity, long timeoutMillis, Consumer<T> sink, LongConsumer timeoutHandler, LatencyHistogram waitTimes)
+	{
+		int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+		this.sink = sink;
+		this.timeoutHandler = timeoutHandler;
+		this.waitTimes = waitTimes;
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		this.drainThread = new Thread(this::drainLoop, name);
+		drainThread.setDaemon(true);
+	}
+
+	public void start()
+	{
+		drainThread.start();
+	}
+
+	public void close()
+	{
+		running = false;
+		LockSupport.unpark(drainThread);
+	}
+
+	public void publish(long sequence, T value)
+	{
+		insert(new Entry<>(sequence, value, System.nanoTime()));
+	}
+
+	public void skip(long sequence)
+	{
+		insert(new Entry<>(sequence, null, System.nanoTime()));
+	}
+
+	public void expect(long sequence)
+	{
+		highestExpected.accumulateAndGet(sequence, Math::max);
+		LockSupport.unpark(drainThread);
+	}
+
+	public boolean awaitSequence(long sequence, long timeoutMillis) throws InterruptedException
+	{
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		progressWaiters.incrementAndGet();
+		try
+		{
+			synchronized (progress)
+			{
+				long remaining;
+				while (next < sequence && (remaining = deadline - System.nanoTime()) > 0)
+				{
+					TimeUnit.NANOSECONDS.timedWait(progress, remaining);
+				}
+			}
+		}
+		finally
+		{
+			progressWaiters.decrementAndGet();
+		}
+		return next >= sequence;
+	}
+
+	private void advance(long sequence)
+	{
+		next = sequence;
+		if (progressWaiters.get() > 0)
+		{
+			synchronized (progress)
+			{
+				progress.notifyAll();
+			}
+		}
+	}
+
+	private void insert(Entry<T> entry)
+	{
+		long sequence = entry.sequence();
+		if (sequence < next)
+		{
+			late.increment();
+			return;
+		}
+		if (sequence - next >= slots.length() || !slots.compareAndSet((int) (sequence & mask), null, entry))
+		{
+			overflow.put(sequence, entry);
+			if (sequence < next && overflow.remove(sequence) != null)
+			{
+				late.increment();
+				return;
+			}
+		}
+		highestPublished.accumulateAndGet(sequence, Math::max);
+		LockSupport.unpark(drainThread);
+	}
+
+	private Entry<T> takeNext()
+	{
+		long expected = next;
+		int index = (int) (expected & mask);
+		Entry<T> entry = slots.get(index);
+		if (entry != null && entry.sequence() <= expected)
+		{
+			slots.compareAndSet(index, entry, null);
+			if (entry.sequence() == expected)
+			{
+				return entry;
+			}
+			late.increment();
+		}
+		return overflow.isEmpty() ? null : overflow.remove(expected);
+	}
+
+	private void drainLoop()
+	{
+		long waitingSince = -1;
+		while (running)
+		{
+			Entry<T> entry = takeNext();
+			if (entry != null)
+			{
+				waitingSince = -1;
+				if (entry.value() == null)
+				{
+					gaps.increment();
+					advance(entry.sequence() + 1);
+					continue;
+				}
+				waitTimes.recordSince(entry.publishedNanos());
+				try
+				{
+					sink.accept(entry.value());
+				}
+				catch (Exception e)
+				{
+					e.printStackTrace();
+				}
+				delivered.increment();
+				advance(entry.sequence() + 1);
+				continue;
+			}
+
+			long now = System.nanoTime();
+			if (highestPublished.get() <= next && highestExpected.get() < next)
+			{
+				waitingSince = -1;
+				LockSupport.park(this);
+				continue;
+			}
+			if (waitingSince < 0)
+			{
+				waitingSince = now;
+			}
+			long remaining = timeoutNanos - (now - waitingSince);
+			if (remaining > 0)
+			{
+				LockSupport.parkNanos(this, remaining);
+				continue;
+			}
+
+			long stuck = next;
+			advance(stuck + 1);
+			waitingSince = -1;
+			timedOut.increment();
+			timeoutHandler.accept(stuck);
+		}
+	}
+
+	public long getTimeoutMillis()
+	{
+		return TimeUnit.NANOSECONDS.toMillis(timeoutNanos);
+	}
+
+	public void setTimeoutMillis(long timeoutMillis)
+	{
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		LockSupport.unpark(drainThread);
+	}
+
+	public long nextSequence()
+	{
+		return next;
+	}
+
+	public long pending()
+	{
+		return Math.max(0, highestPublished.get() + 1 - next);
+	}
+
+	public long delivered()
+	{
+		return delivered.sum();
+	}
+
+	public long gaps()
+	{
+		return gaps.sum();
+	}
+
+	public long timedOut()
+	{
+		return timedOut.sum();
+	}
+
+	public long late()
+	{
+		return late.sum();
+	}
+}
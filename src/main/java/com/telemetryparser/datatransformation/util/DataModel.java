@@ -41,6 +41,11 @@ public class DataModel
 		return columns;
 	}
 
+	public Map<Double, Map<String, Double>> getRows()
+	{
+		return data;
+	}
+
 	public List<String> getColumnsInOrder()
 	{
 		return new ArrayList<>(columns);
@@ -0,0 +1,222 @@
+package com.telemetryparser.headless;
+
+import com.telemetryparser.core.ClockDomain;
+import com.telemetryparser.core.TelemetrySnapshot;
+import com.telemetryparser.core.fixed.FrameData;
+import com.telemetryparser.core.fixed.FrameIntake;
+import com.telemetryparser.core.fixed.FrameManager;
+import com.telemetryparser.core.fixed.PipelineMetrics;
+import com.telemetryparser.settings.Preset;
+import com.telemetryparser.settings.Settings;
+import com.telemetryparser.util.TesseractManager;
+import com.telemetryparser.util.metrics.LatencyHistogram;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class BatchRunner
+{
+	private static final String USAGE = "Usage: --batch --preset <name> --input <frame directory | raw rgb24 file> --output <csv> [--fps <rate>] [--clock media|wall] [--chunks <n>] [--overlap <seconds>] [--width <px> --height <px>]";
+
+	public record Report(long frames, long delivered, long dropped, int chunks, double seconds)
+	{
+		public double framesPerSecond()
+		{
+			return seconds > 0 ? frames / seconds : 0;
+		}
+	}
+
+	private record ChunkResult(List<TelemetrySnapshot> snapshots, long delivered, long dropped)
+	{
+	}
+
+	private final Preset preset;
+	private final double frameIntervalMs;
+	private final ClockDomain clockDomain;
+
+	public BatchRunner(Preset preset, double fps, ClockDomain clockDomain)
+	{
+		this.preset = preset;
+		this.frameIntervalMs = 1000.0 / fps;
+		this.clockDomain = clockDomain;
+	}
+
+	private long playerTime(long frame)
+	{
+		return Math.round(frame * frameIntervalMs);
+	}
+
+	public Report run(FrameSequence sequence, int chunks, int overlapFrames, String outputPath) throws IOException, InterruptedException
+	{
+		int size = sequence.size();
+		int chunkCount = Math.max(1, Math.min(chunks, size));
+		int chunkLength = (size + chunkCount - 1) / Math.max(1, chunkCount);
+		long start = System.nanoTime();
+
+		List<Callable<ChunkResult>> tasks = new ArrayList<>();
+		List<Long> ownedFrom = new ArrayList<>();
+		for (int chunk = 0; chunk < chunkCount; chunk++)
+		{
+			int owned = chunk * chunkLength;
+			int from = Math.max(0, owned - overlapFrames);
+			int to = Math.min(size, owned + chunkLength);
+			if (owned >= to)
+			{
+				break;
+			}
+			ownedFrom.add(playerTime(owned));
+			tasks.add(() ->
+			{
+				try (FrameSource source = sequence.open(from, to))
+				{
+					return process(source, from);
+				}
+			});
+		}
+
+		ExecutorService chunkExecutor = Executors.newFixedThreadPool(Math.max(1, tasks.size()));
+		try
+		{
+			List<TimelineStitcher.Chunk> stitched = new ArrayList<>();
+			long delivered = 0;
+			long dropped = 0;
+			List<Future<ChunkResult>> futures = chunkExecutor.invokeAll(tasks);
+			for (int i = 0; i < futures.size(); i++)
+			{
+				ChunkResult result = futures.get(i).get();
+				stitched.add(new TimelineStitcher.Chunk(ownedFrom.get(i), result.snapshots()));
+				delivered += result.delivered();
+				dropped += result.dropped();
+			}
+			double seconds = (System.nanoTime() - start) / 1e9;
+
+			FrameManager.writeSnapshots(outputPath, TimelineStitcher.stitch(stitched));
+			return new Report(size, delivered, dropped, tasks.size(), seconds);
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof IOException ioException)
+			{
+				throw ioException;
+			}
+			if (e.getCause() instanceof IllegalStateException stalled)
+			{
+				throw stalled;
+			}
+			throw new IllegalStateException("Chunk processing failed", e.getCause());
+		}
+		finally
+		{
+			chunkExecutor.shutdownNow();
+		}
+	}
+
+	private ChunkResult process(FrameSource source, long firstFrame) throws IOException, InterruptedException
+	{
+		FrameManager frameManager = new FrameManager();
+		frameManager.getIntake().setPolicy(FrameIntake.Policy.BLOCK);
+		try
+		{
+			long frame = firstFrame;
+			BufferedImage image;
+			while ((image = source.next()) != null)
+			{
+				frameManager.queueFrame(new FrameData(image, playerTime(frame), System.currentTimeMillis(), clockDomain, preset));
+				frame++;
+			}
+			frameManager.awaitDrained();
+			return new ChunkResult(frameManager.getMergedSnapshots(), frameManager.getReorderBuffer().delivered(), frameManager.getIntake().dropped() + frameManager.getReorderBuffer().timedOut());
+		}
+		finally
+		{
+			frameManager.close();
+		}
+	}
+
+	static void printStageLatencies()
+	{
+		for (PipelineMetrics.Stage stage : PipelineMetrics.Stage.values())
+		{
+			LatencyHistogram.Snapshot snapshot = PipelineMetrics.get().stage(stage).snapshot();
+			if (snapshot.count() > 0)
+			{
+				System.out.printf("  %-14s p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms%n", stage.name, snapshot.p50Millis(), snapshot.p99Millis(), snapshot.maxMillis());
+			}
+		}
+	}
+
+	public static int run(String[] args)
+	{
+		Map<String, String> options = new HashMap<>();
+		for (int i = 0; i + 1 < args.length; i += 2)
+		{
+			if (!args[i].startsWith("--"))
+			{
+				System.err.println(USAGE);
+				return 2;
+			}
+			options.put(args[i].substring(2), args[i + 1]);
+		}
+
+		String presetName = options.get("preset");
+		String input = options.get("input");
+		String output = options.get("output");
+		if (args.length % 2 != 0 || presetName == null || input == null || output == null)
+		{
+			System.err.println(USAGE);
+			return 2;
+		}
+		if (!Arrays.asList(Settings.collectPresets()).contains(presetName))
+		{
+			System.err.println("Unknown preset " + presetName + ". Known presets: " + String.join(", ", Settings.collectPresets()));
+			return 2;
+		}
+
+		try
+		{
+			double fps = Double.parseDouble(options.getOrDefault("fps", "30"));
+			File inputFile = new File(input);
+			TesseractManager.warmUp();
+			ClockDomain clockDomain = ClockDomain.valueOf(options.getOrDefault("clock", "media").toUpperCase(Locale.ROOT));
+			BatchRunner runner = new BatchRunner(Settings.loadPreset(presetName), fps, clockDomain);
+			int chunks = Integer.parseInt(options.getOrDefault("chunks", "1"));
+			int overlapFrames = (int) Math.ceil(Double.parseDouble(options.getOrDefault("overlap", "5")) * fps);
+			FrameSequence sequence = inputFile.isDirectory()
+				? ImageDirectorySource.sequence(inputFile)
+				: RawFrameSource.sequence(inputFile, Integer.parseInt(options.getOrDefault("width", "0")), Integer.parseInt(options.getOrDefault("height", "0")));
+			Report report = runner.run(sequence, chunks, overlapFrames, output);
+
+			System.out.printf("Processed %d frames in %d chunks in %.2f s (%.1f frames/s), %d delivered, %d dropped%n", report.frames(), report.chunks(), report.seconds(), report.framesPerSecond(), report.delivered(), report.dropped());
+			printStageLatencies();
+			System.out.println("Wrote " + output);
+			return 0;
+		}
+		catch (IllegalArgumentException e)
+		{
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			return 2;
+		}
+		catch (IOException | IllegalStateException e)
+		{
+			System.err.println("Batch processing failed: " + e.getMessage());
+			return 1;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package com.telemetryparser.headless;
+
+import java.io.IOException;
+
+public interface FrameSequence
+{
+	int size();
+
+	FrameSource open(int from, int to) throws IOException;
+}
@@ -0,0 +1,12 @@
+package com.telemetryparser.headless;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+public interface FrameSource extends AutoCloseable
+{
+	BufferedImage next() throws IOException;
+
+	@Override
+	void close() throws IOException;
+}
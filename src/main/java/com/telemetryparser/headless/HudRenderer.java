@@ -0,0 +1,260 @@
+package com.telemetryparser.headless;
+
+import com.telemetryparser.core.Parameter;
+import com.telemetryparser.core.ParameterType;
+import com.telemetryparser.settings.Preset;
+import com.telemetryparser.util.EngineLocation;
+import com.telemetryparser.util.ImageUtil;
+import com.telemetryparser.util.ROIRatios;
+import com.telemetryparser.util.UnitTranslation;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class HudRenderer
+{
+	private static final Color BACKGROUND = new Color(8, 10, 14);
+	private static final Color FOREGROUND = new Color(245, 245, 245);
+	private static final Color INACTIVE = new Color(110, 110, 110);
+	private static final Color FUEL_TRACK = new Color(28, 28, 28);
+	private static final double FUEL_BAR_RATIO = .125;
+
+	public record Frame(BufferedImage image, Map<Parameter, Double> truth)
+	{
+	}
+
+	private final Preset preset;
+	private final int width;
+	private final int height;
+	private final Map<Parameter, Rectangle> rois = new EnumMap<>(Parameter.class);
+	private final Map<Parameter, Font> fonts = new EnumMap<>(Parameter.class);
+
+	public HudRenderer(Preset preset, Font font, int width, int height)
+	{
+		this.preset = preset;
+		this.width = width;
+		this.height = height;
+
+		FontRenderContext context = new FontRenderContext(null, true, true);
+		for (Map.Entry<Parameter, ROIRatios> entry : preset.ratios().entrySet())
+		{
+			if (entry.getValue() == null)
+			{
+				continue;
+			}
+			Rectangle roi = ImageUtil.computeROI(width, height, entry.getValue());
+			rois.put(entry.getKey(), roi);
+			if (entry.getKey().type.isText())
+			{
+				fonts.put(entry.getKey(), fit(font, context, sampleText(entry.getKey().type), roi));
+			}
+		}
+	}
+
+	public int width()
+	{
+		return width;
+	}
+
+	public int height()
+	{
+		return height;
+	}
+
+	public Frame render(double seconds, Map<Parameter, Double> values)
+	{
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Map<Parameter, Double> truth = new EnumMap<>(Parameter.class);
+		Graphics2D g = image.createGraphics();
+		try
+		{
+			g.setColor(BACKGROUND);
+			g.fillRect(0, 0, width, height);
+			g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+			drawClock(g, seconds, truth);
+			for (Parameter parameter : Parameter.values())
+			{
+				Double value = values.get(parameter);
+				Rectangle roi = rois.get(parameter);
+				if (value == null || roi == null)
+				{
+					continue;
+				}
+				switch (parameter.type)
+				{
+					case SPEED -> drawNumber(g, parameter, roi, value, preset.speedTranslation(), truth);
+					case ALTITUDE -> drawNumber(g, parameter, roi, value, preset.altitudeTranslation(), truth);
+					case FUEL -> drawFuel(g, parameter, roi, value, truth);
+					case PITCH -> drawPitch(g, parameter, roi, value, truth);
+					default -> {}
+				}
+			}
+			drawEngines(g, values, Parameter.STAGE_1_ENGINES, preset.stage1EngineMap(), ringParameters(Parameter.STAGE_1_CENTER_ENGINES, Parameter.STAGE_1_MIDDLE_ENGINES, Parameter.STAGE_1_OUTER_ENGINES), truth);
+			drawEngines(g, values, Parameter.STAGE_2_ENGINES, preset.stage2EngineMap(), ringParameters(Parameter.STAGE_2_CENTER_ENGINES, Parameter.STAGE_2_OUTER_ENGINES), truth);
+		}
+		finally
+		{
+			g.dispose();
+		}
+		return new Frame(image, truth);
+	}
+
+	private void drawClock(Graphics2D g, double seconds, Map<Parameter, Double> truth)
+	{
+		Rectangle roi = rois.get(Parameter.TIME);
+		if (roi == null)
+		{
+			return;
+		}
+		long shown = (long) Math.abs(seconds);
+		String text = String.format("%s%s%02d:%02d:%02d", preset.timePrefix(), seconds < 0 ? "-" : "+", shown / 3600, shown / 60 % 60, shown % 60);
+		drawText(g, Parameter.TIME, roi, text);
+		truth.put(Parameter.TIME, (double) (seconds < 0 ? -shown : shown));
+	}
+
+	private void drawNumber(Graphics2D g, Parameter parameter, Rectangle roi, double value, UnitTranslation translation, Map<Parameter, Double> truth)
+	{
+		long shown = Math.max(0, Math.round(value * translation.getTranslationAmount()));
+		String text = preset.usesComma() ? String.format("%,d", shown).replace(',', '.') : Long.toString(shown);
+		drawText(g, parameter, roi, text);
+		truth.put(parameter, shown / translation.getTranslationAmount());
+	}
+
+	private void drawText(Graphics2D g, Parameter parameter, Rectangle roi, String text)
+	{
+		GlyphVector glyphs = fonts.get(parameter).createGlyphVector(g.getFontRenderContext(), text);
+		Rectangle2D bounds = glyphs.getVisualBounds();
+		g.setColor(FOREGROUND);
+		g.drawGlyphVector(glyphs, (float) (roi.getCenterX() - bounds.getCenterX()), (float) (roi.getCenterY() - bounds.getCenterY()));
+	}
+
+	private void drawFuel(Graphics2D g, Parameter parameter, Rectangle roi, double value, Map<Parameter, Double> truth)
+	{
+		int barWidth = (int) Math.round(FUEL_BAR_RATIO * width);
+		int left = roi.x + roi.width - barWidth;
+		int filled = Math.max(1, (int) Math.round(Math.max(0, Math.min(100, value)) / 100 * barWidth));
+		g.setColor(FUEL_TRACK);
+		g.fillRect(left, roi.y, barWidth, roi.height);
+		g.setColor(FOREGROUND);
+		g.fillRect(left, roi.y, filled, roi.height);
+		truth.put(parameter, 100.0 * filled / barWidth);
+	}
+
+	private void drawPitch(Graphics2D g, Parameter parameter, Rectangle roi, double value, Map<Parameter, Double> truth)
+	{
+		double length = 0.8 * Math.min(roi.width, roi.height);
+		double thickness = Math.max(3, length / 6);
+		Graphics2D rotated = (Graphics2D) g.create();
+		try
+		{
+			rotated.translate(roi.getCenterX(), roi.getCenterY());
+			rotated.rotate(Math.toRadians(value));
+			rotated.setColor(FOREGROUND);
+			rotated.fill(new Rectangle2D.Double(-thickness / 2, -length / 2, thickness, length));
+		}
+		finally
+		{
+			rotated.dispose();
+		}
+		truth.put(parameter, value);
+	}
+
+	private void drawEngines(Graphics2D g, Map<Parameter, Double> values, Parameter parameter, Map<Integer, EngineLocation> engineMap, Map<Integer, Parameter> rings, Map<Parameter, Double> truth)
+	{
+		Rectangle roi = rois.get(parameter);
+		boolean hasRingCounts = rings.values().stream().anyMatch(ring -> values.get(ring) != null);
+		if (roi == null || engineMap == null || engineMap.isEmpty() || (values.get(parameter) == null && !hasRingCounts))
+		{
+			return;
+		}
+
+		Map<Integer, Integer> remaining = new TreeMap<>();
+		int remainingTotal = hasRingCounts ? 0 : (int) Math.round(values.get(parameter));
+		for (Map.Entry<Integer, Parameter> ring : rings.entrySet())
+		{
+			Double count = values.get(ring.getValue());
+			remaining.put(ring.getKey(), count == null ? 0 : (int) Math.round(count));
+		}
+
+		int active = 0;
+		Map<Integer, Integer> activePerRing = new TreeMap<>();
+		g.setStroke(new BasicStroke(1.5f));
+		for (EngineLocation location : new TreeMap<>(engineMap).values())
+		{
+			int ring = location.ring() == null ? 0 : location.ring();
+			boolean lit;
+			if (hasRingCounts)
+			{
+				lit = remaining.getOrDefault(ring, 0) > 0;
+				remaining.computeIfPresent(ring, (key, count) -> count - 1);
+			}
+			else
+			{
+				lit = remainingTotal-- > 0;
+			}
+
+			int x = roi.x + location.middle().x - location.radius();
+			int y = roi.y + location.middle().y - location.radius();
+			int diameter = location.radius() * 2;
+			if (lit)
+			{
+				g.setColor(FOREGROUND);
+				g.fillOval(x, y, diameter, diameter);
+				active++;
+				activePerRing.merge(ring, 1, Integer::sum);
+			}
+			else
+			{
+				g.setColor(INACTIVE);
+				g.drawOval(x, y, diameter, diameter);
+			}
+		}
+
+		truth.put(parameter, (double) active);
+		for (Map.Entry<Integer, Parameter> ring : rings.entrySet())
+		{
+			truth.put(ring.getValue(), (double) activePerRing.getOrDefault(ring.getKey(), 0));
+		}
+	}
+
+	private static Map<Integer, Parameter> ringParameters(Parameter... parameters)
+	{
+		Map<Integer, Parameter> rings = new LinkedHashMap<>();
+		for (int i = 0; i < parameters.length; i++)
+		{
+			rings.put(i + 1, parameters[i]);
+		}
+		return rings;
+	}
+
+	private static String sampleText(ParameterType type)
+	{
+		return switch (type)
+		{
+			case TIME -> "T+00:00:00";
+			case SPEED -> "00000";
+			default -> "000";
+		};
+	}
+
+	private static Font fit(Font font, FontRenderContext context, String sample, Rectangle roi)
+	{
+		float reference = 100f;
+		Rectangle2D bounds = font.deriveFont(reference).createGlyphVector(context, sample).getVisualBounds();
+		double scale = Math.min(0.9 * roi.width / bounds.getWidth(), 0.7 * roi.height / bounds.getHeight());
+		return font.deriveFont((float) Math.max(1, reference * scale));
+	}
+}
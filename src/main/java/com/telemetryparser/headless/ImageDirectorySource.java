@@ -0,0 +1,141 @@
+package com.telemetryparser.headless;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import javax.imageio.ImageIO;
+
+public class ImageDirectorySource implements FrameSource
+{
+	private final List<File> files;
+	private int index = 0;
+
+	public ImageDirectorySource(File directory) throws IOException
+	{
+		this(listFrames(directory));
+	}
+
+	private ImageDirectorySource(List<File> files)
+	{
+		this.files = files;
+	}
+
+	public static FrameSequence sequence(File directory) throws IOException
+	{
+		List<File> frames = listFrames(directory);
+		return new FrameSequence()
+		{
+			@Override
+			public int size()
+			{
+				return frames.size();
+			}
+
+			@Override
+			public FrameSource open(int from, int to)
+			{
+				return new ImageDirectorySource(frames.subList(from, to));
+			}
+		};
+	}
+
+	private static List<File> listFrames(File directory) throws IOException
+	{
+		File[] listed = directory.listFiles(file -> file.isFile() && isImage(file.getName()));
+		if (listed == null)
+		{
+			throw new IOException("Could not list frames in " + directory);
+		}
+		List<File> files = new ArrayList<>(Arrays.asList(listed));
+		files.sort(Comparator.comparing(File::getName, ImageDirectorySource::compareNatural));
+		return files;
+	}
+
+	private static boolean isImage(String name)
+	{
+		String lower = name.toLowerCase(Locale.ROOT);
+		return lower.endsWith(".png") || lower.endsWith(".jpg") || lower.endsWith(".jpeg");
+	}
+
+	private static int compareNatural(String a, String b)
+	{
+		int i = 0;
+		int j = 0;
+		while (i < a.length() && j < b.length())
+		{
+			char ca = a.charAt(i);
+			char cb = b.charAt(j);
+			if (Character.isDigit(ca) && Character.isDigit(cb))
+			{
+				int startA = i;
+				int startB = j;
+				while (i < a.length() && Character.isDigit(a.charAt(i)))
+				{
+					i++;
+				}
+				while (j < b.length() && Character.isDigit(b.charAt(j)))
+				{
+					j++;
+				}
+				String numberA = a.substring(startA, i).replaceFirst("^0+(?=.)", "");
+				String numberB = b.substring(startB, j).replaceFirst("^0+(?=.)", "");
+				int compared = numberA.length() != numberB.length() ? Integer.compare(numberA.length(), numberB.length()) : numberA.compareTo(numberB);
+				if (compared != 0)
+				{
+					return compared;
+				}
+			}
+			else
+			{
+				if (ca != cb)
+				{
+					return Character.compare(ca, cb);
+				}
+				i++;
+				j++;
+			}
+		}
+		return Integer.compare(a.length() - i, b.length() - j);
+	}
+
+	public int size()
+	{
+		return files.size();
+	}
+
+	@Override
+	public BufferedImage next() throws IOException
+	{
+		while (index < files.size())
+		{
+			File file = files.get(index++);
+			BufferedImage read = ImageIO.read(file);
+			if (read == null)
+			{
+				System.err.println("Skipping unreadable frame " + file);
+				continue;
+			}
+			if (read.getType() == BufferedImage.TYPE_INT_RGB)
+			{
+				return read;
+			}
+			BufferedImage frame = new BufferedImage(read.getWidth(), read.getHeight(), BufferedImage.TYPE_INT_RGB);
+			Graphics2D graphics = frame.createGraphics();
+			graphics.drawImage(read, 0, 0, null);
+			graphics.dispose();
+			return frame;
+		}
+		return null;
+	}
+
+	@Override
+	public void close()
+	{
+	}
+}
@@ -0,0 +1,108 @@
+package com.telemetryparser.headless;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+public class RawFrameSource implements FrameSource
+{
+	private final DataInputStream input;
+	private final int width;
+	private final int height;
+	private final byte[] row;
+	private long remaining;
+
+	public RawFrameSource(File file, int width, int height) throws IOException
+	{
+		this(file, width, height, 0, Long.MAX_VALUE);
+	}
+
+	private RawFrameSource(File file, int width, int height, long from, long to) throws IOException
+	{
+		checkDimensions(width, height);
+		FileInputStream stream = new FileInputStream(file);
+		stream.getChannel().position(from * frameBytes(width, height));
+		this.input = new DataInputStream(new BufferedInputStream(stream, 1 << 20));
+		this.width = width;
+		this.height = height;
+		this.row = new byte[width * 3];
+		this.remaining = to - from;
+	}
+
+	public static FrameSequence sequence(File file, int width, int height)
+	{
+		checkDimensions(width, height);
+		int size = (int) (file.length() / frameBytes(width, height));
+		return new FrameSequence()
+		{
+			@Override
+			public int size()
+			{
+				return size;
+			}
+
+			@Override
+			public FrameSource open(int from, int to) throws IOException
+			{
+				return new RawFrameSource(file, width, height, from, to);
+			}
+		};
+	}
+
+	private static void checkDimensions(int width, int height)
+	{
+		if (width <= 0 || height <= 0)
+		{
+			throw new IllegalArgumentException("Raw frames need a positive width and height");
+		}
+	}
+
+	private static long frameBytes(int width, int height)
+	{
+		return (long) width * height * 3;
+	}
+
+	@Override
+	public BufferedImage next() throws IOException
+	{
+		if (remaining <= 0)
+		{
+			return null;
+		}
+		remaining--;
+		BufferedImage frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		int[] pixels = ((DataBufferInt) frame.getRaster().getDataBuffer()).getData();
+		for (int y = 0; y < height; y++)
+		{
+			try
+			{
+				input.readFully(row);
+			}
+			catch (EOFException e)
+			{
+				if (y == 0)
+				{
+					return null;
+				}
+				throw new IOException("Raw frame file ends in the middle of a frame", e);
+			}
+			int offset = y * width;
+			for (int x = 0, i = 0; x < width; x++, i += 3)
+			{
+				pixels[offset + x] = (row[i] & 0xFF) << 16 | (row[i + 1] & 0xFF) << 8 | row[i + 2] & 0xFF;
+			}
+		}
+		return frame;
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		input.close();
+	}
+}
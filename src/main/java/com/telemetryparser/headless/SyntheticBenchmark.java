@@ -0,0 +1,251 @@
+package com.telemetryparser.headless;
+
+import com.telemetryparser.core.ClockDomain;
+import com.telemetryparser.core.Parameter;
+import com.telemetryparser.core.fixed.FrameAnalysisResult;
+import com.telemetryparser.core.fixed.FrameCompletedEvent;
+import com.telemetryparser.core.fixed.FrameData;
+import com.telemetryparser.core.fixed.FrameIntake;
+import com.telemetryparser.core.fixed.FrameManager;
+import com.telemetryparser.settings.Preset;
+import com.telemetryparser.settings.Settings;
+import com.telemetryparser.util.FontLoader;
+import com.telemetryparser.util.TesseractManager;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import javax.imageio.ImageIO;
+
+public class SyntheticBenchmark
+{
+	private static final String USAGE = "Usage: --synthetic --preset <name> --telemetry <csv> [--width <px>] [--height <px>] [--fps <rate>] [--from <seconds>] [--to <seconds>] [--pace max|live] [--output <csv>] [--frames <directory>]";
+
+	public static class Score
+	{
+		private long compared;
+		private long matched;
+		private long missing;
+		private double absoluteError;
+
+		public long compared()
+		{
+			return compared;
+		}
+
+		public long matched()
+		{
+			return matched;
+		}
+
+		public long missing()
+		{
+			return missing;
+		}
+
+		public double meanError()
+		{
+			long measured = compared - missing;
+			return measured > 0 ? absoluteError / measured : 0;
+		}
+
+		public double accuracy()
+		{
+			return compared > 0 ? (double) matched / compared : 0;
+		}
+	}
+
+	public record Report(long frames, long delivered, long dropped, double renderSeconds, double seconds, Map<Parameter, Score> scores)
+	{
+		public double framesPerSecond()
+		{
+			return seconds > 0 ? frames / seconds : 0;
+		}
+	}
+
+	private final Preset preset;
+	private final HudRenderer renderer;
+	private final Map<Long, Map<Parameter, Double>> pendingTruth = new ConcurrentHashMap<>();
+	private final Map<Parameter, Score> scores = new EnumMap<>(Parameter.class);
+
+	public SyntheticBenchmark(Preset preset, HudRenderer renderer)
+	{
+		this.preset = preset;
+		this.renderer = renderer;
+	}
+
+	public Report run(SyntheticFrameSource source, double fps, boolean live, String outputPath, File framesDirectory) throws IOException, InterruptedException
+	{
+		FrameManager frameManager = new FrameManager();
+		if (!live)
+		{
+			frameManager.getIntake().setPolicy(FrameIntake.Policy.BLOCK);
+		}
+		frameManager.addFrameCompletedListener(this::score);
+
+		long frameIntervalNanos = Math.round(1e9 / fps);
+		long renderNanos = 0;
+		long start = System.nanoTime();
+		try
+		{
+			for (int frame = 0; frame < source.size(); frame++)
+			{
+				long renderStart = System.nanoTime();
+				HudRenderer.Frame rendered = source.nextFrame();
+				renderNanos += System.nanoTime() - renderStart;
+				if (framesDirectory != null)
+				{
+					ImageIO.write(rendered.image(), "png", new File(framesDirectory, String.format("frame_%06d.png", frame)));
+				}
+				if (live)
+				{
+					LockSupport.parkNanos(start + frame * frameIntervalNanos - System.nanoTime());
+				}
+
+				long playerTime = Math.round(frame * 1000.0 / fps);
+				pendingTruth.put(playerTime, rendered.truth());
+				frameManager.queueFrame(new FrameData(rendered.image(), playerTime, System.currentTimeMillis(), ClockDomain.MEDIA, preset));
+			}
+			frameManager.awaitDrained();
+			double seconds = (System.nanoTime() - start) / 1e9;
+
+			if (outputPath != null)
+			{
+				FrameManager.writeSnapshots(outputPath, frameManager.getMergedSnapshots());
+			}
+			long delivered = frameManager.getReorderBuffer().delivered();
+			long dropped = frameManager.getIntake().dropped() + frameManager.getReorderBuffer().timedOut();
+			return new Report(source.size(), delivered, dropped, renderNanos / 1e9, seconds, scores);
+		}
+		finally
+		{
+			frameManager.close();
+		}
+	}
+
+	private void score(FrameCompletedEvent event)
+	{
+		FrameAnalysisResult result = event.frameAnalysisResult();
+		Map<Parameter, Double> truth = pendingTruth.remove(result.frameData().playerTime());
+		if (truth == null)
+		{
+			return;
+		}
+
+		Map<Parameter, Double> measured = result.values();
+		Integer seconds = result.getTimeAsSeconds();
+		measured.put(Parameter.TIME, seconds == null ? null : seconds.doubleValue());
+		for (Map.Entry<Parameter, Double> expected : truth.entrySet())
+		{
+			Score score = scores.computeIfAbsent(expected.getKey(), parameter -> new Score());
+			Double value = measured.get(expected.getKey());
+			score.compared++;
+			if (value == null)
+			{
+				score.missing++;
+				continue;
+			}
+			double error = Math.abs(value - expected.getValue());
+			score.absoluteError += error;
+			if (error <= tolerance(expected.getKey()))
+			{
+				score.matched++;
+			}
+		}
+	}
+
+	private double tolerance(Parameter parameter)
+	{
+		return switch (parameter.type)
+		{
+			case SPEED -> 0.5 / preset.speedTranslation().getTranslationAmount();
+			case ALTITUDE -> 0.5 / preset.altitudeTranslation().getTranslationAmount();
+			case FUEL -> 1.5;
+			case PITCH -> 2.0;
+			default -> 0.5;
+		};
+	}
+
+	public static int run(String[] args)
+	{
+		Map<String, String> options = new HashMap<>();
+		for (int i = 0; i + 1 < args.length; i += 2)
+		{
+			if (!args[i].startsWith("--"))
+			{
+				System.err.println(USAGE);
+				return 2;
+			}
+			options.put(args[i].substring(2), args[i + 1]);
+		}
+
+		String presetName = options.get("preset");
+		String telemetry = options.get("telemetry");
+		if (args.length % 2 != 0 || presetName == null || telemetry == null)
+		{
+			System.err.println(USAGE);
+			return 2;
+		}
+		if (!Arrays.asList(Settings.collectPresets()).contains(presetName))
+		{
+			System.err.println("Unknown preset " + presetName + ". Known presets: " + String.join(", ", Settings.collectPresets()));
+			return 2;
+		}
+
+		try
+		{
+			TelemetryTrack track = TelemetryTrack.load(new File(telemetry));
+			int width = Integer.parseInt(options.getOrDefault("width", "1920"));
+			int height = Integer.parseInt(options.getOrDefault("height", "1080"));
+			double fps = Double.parseDouble(options.getOrDefault("fps", "30"));
+			double from = Double.parseDouble(options.getOrDefault("from", String.valueOf(track.startTime())));
+			double to = Double.parseDouble(options.getOrDefault("to", String.valueOf(track.endTime())));
+			boolean live = options.getOrDefault("pace", "max").equals("live");
+			File framesDirectory = options.containsKey("frames") ? new File(options.get("frames")) : null;
+			if (framesDirectory != null && !framesDirectory.isDirectory() && !framesDirectory.mkdirs())
+			{
+				throw new IOException("Could not create " + framesDirectory);
+			}
+
+			Preset preset = Settings.loadPreset(presetName);
+			HudRenderer renderer = new HudRenderer(preset, FontLoader.loadFont("Mittelschrift"), width, height);
+			SyntheticFrameSource source = new SyntheticFrameSource(track, renderer, fps, from, to);
+			TesseractManager.warmUp();
+			Report report = new SyntheticBenchmark(preset, renderer).run(source, fps, live, options.get("output"), framesDirectory);
+
+			System.out.printf("Processed %d synthetic %dx%d frames in %.2f s (%.1f frames/s, %.2f ms/frame rendering), %d delivered, %d dropped%n", report.frames(), width, height, report.seconds(), report.framesPerSecond(), report.frames() > 0 ? report.renderSeconds() * 1000 / report.frames() : 0, report.delivered(), report.dropped());
+			BatchRunner.printStageLatencies();
+			System.out.printf("  %-24s %8s %9s %8s %10s%n", "Parameter", "Frames", "Accuracy", "Missing", "Mean error");
+			for (Map.Entry<Parameter, Score> entry : report.scores().entrySet())
+			{
+				Score score = entry.getValue();
+				System.out.printf("  %-24s %8d %8.1f%% %8d %10.3f%n", entry.getKey().name, score.compared(), score.accuracy() * 100, score.missing(), score.meanError());
+			}
+			if (options.containsKey("output"))
+			{
+				System.out.println("Wrote " + options.get("output"));
+			}
+			return 0;
+		}
+		catch (IllegalArgumentException e)
+		{
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			return 2;
+		}
+		catch (IOException | IllegalStateException e)
+		{
+			System.err.println("Synthetic benchmark failed: " + e.getMessage());
+			return 1;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return 1;
+		}
+	}
+}
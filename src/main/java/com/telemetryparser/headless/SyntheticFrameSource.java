@@ -0,0 +1,55 @@
+package com.telemetryparser.headless;
+
+import java.awt.image.BufferedImage;
+
+public class SyntheticFrameSource implements FrameSource
+{
+	private final TelemetryTrack track;
+	private final HudRenderer renderer;
+	private final double fps;
+	private final double fromSeconds;
+	private final int size;
+	private int index = 0;
+
+	public SyntheticFrameSource(TelemetryTrack track, HudRenderer renderer, double fps, double fromSeconds, double toSeconds)
+	{
+		this.track = track;
+		this.renderer = renderer;
+		this.fps = fps;
+		this.fromSeconds = fromSeconds;
+		this.size = toSeconds < fromSeconds ? 0 : (int) Math.floor((toSeconds - fromSeconds) * fps) + 1;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public double frameTime(int frame)
+	{
+		return fromSeconds + frame / fps;
+	}
+
+	public HudRenderer.Frame nextFrame()
+	{
+		if (index >= size)
+		{
+			return null;
+		}
+		double seconds = frameTime(index++);
+		return renderer.render(seconds, track.at(seconds));
+	}
+
+	@Override
+	public BufferedImage next()
+	{
+		HudRenderer.Frame frame = nextFrame();
+		return frame == null ? null : frame.image();
+	}
+
+	@Override
+	public void close()
+	{
+
+	}
+}
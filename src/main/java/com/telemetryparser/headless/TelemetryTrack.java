@@ -0,0 +1,100 @@
+package com.telemetryparser.headless;
+
+import com.telemetryparser.core.Parameter;
+import com.telemetryparser.datatransformation.util.CsvImportUtil;
+import com.telemetryparser.datatransformation.util.DataModel;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class TelemetryTrack
+{
+	private static final double MAX_HOLD_SECONDS = 1.0;
+
+	private final double[] times;
+	private final Map<Parameter, double[]> values = new EnumMap<>(Parameter.class);
+	private final Map<Parameter, double[]> valueTimes = new EnumMap<>(Parameter.class);
+
+	private TelemetryTrack(DataModel model)
+	{
+		Map<Double, Map<String, Double>> rows = model.getRows();
+		times = new double[rows.size()];
+		for (Parameter parameter : Parameter.values())
+		{
+			if (parameter != Parameter.TIME && model.getColumns().contains(parameter.name))
+			{
+				double[] filled = new double[times.length];
+				double[] filledAt = new double[times.length];
+				Arrays.fill(filled, Double.NaN);
+				values.put(parameter, filled);
+				valueTimes.put(parameter, filledAt);
+			}
+		}
+
+		int row = 0;
+		for (Map.Entry<Double, Map<String, Double>> entry : rows.entrySet())
+		{
+			times[row] = entry.getKey();
+			for (Map.Entry<Parameter, double[]> column : values.entrySet())
+			{
+				double[] filled = column.getValue();
+				double[] filledAt = valueTimes.get(column.getKey());
+				Double value = entry.getValue().get(column.getKey().name);
+				if (value != null)
+				{
+					filled[row] = value;
+					filledAt[row] = times[row];
+				}
+				else if (row > 0)
+				{
+					filled[row] = filled[row - 1];
+					filledAt[row] = filledAt[row - 1];
+				}
+			}
+			row++;
+		}
+	}
+
+	public static TelemetryTrack load(File csv) throws IOException
+	{
+		if (!csv.isFile())
+		{
+			throw new IOException("Telemetry file " + csv + " does not exist");
+		}
+		TelemetryTrack track = new TelemetryTrack(CsvImportUtil.importCsv(csv, Parameter.TIME.name));
+		if (track.times.length == 0)
+		{
+			throw new IOException("Telemetry file " + csv + " has no rows");
+		}
+		return track;
+	}
+
+	public double startTime()
+	{
+		return times[0];
+	}
+
+	public double endTime()
+	{
+		return times[times.length - 1];
+	}
+
+	public Map<Parameter, Double> at(double seconds)
+	{
+		Map<Parameter, Double> sample = new EnumMap<>(Parameter.class);
+		int row = Arrays.binarySearch(times, seconds);
+		if (row < 0)
+		{
+			row = -row - 2;
+		}
+		for (Map.Entry<Parameter, double[]> column : values.entrySet())
+		{
+			double value = row < 0 ? Double.NaN : column.getValue()[row];
+			boolean fresh = !Double.isNaN(value) && seconds - valueTimes.get(column.getKey())[row] <= MAX_HOLD_SECONDS;
+			sample.put(column.getKey(), fresh ? value : null);
+		}
+		return sample;
+	}
+}
@@ -0,0 +1,66 @@
+package com.telemetryparser.headless;
+
+import com.telemetryparser.core.TelemetrySnapshot;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TimelineStitcher
+{
+	private static final double MAX_ALIGNMENT_SECONDS = 2.0;
+
+	public record Chunk(long ownedFromPlayerTime, List<TelemetrySnapshot> snapshots)
+	{
+	}
+
+	public static List<TelemetrySnapshot> stitch(List<Chunk> chunks)
+	{
+		List<TelemetrySnapshot> stitched = new ArrayList<>();
+		List<TelemetrySnapshot> previous = null;
+		for (int i = 0; i < chunks.size(); i++)
+		{
+			Chunk chunk = chunks.get(i);
+			long ownedTo = i + 1 < chunks.size() ? chunks.get(i + 1).ownedFromPlayerTime() : Long.MAX_VALUE;
+			double offset = previous == null ? 0 : alignmentOffset(previous, chunk.snapshots());
+			for (TelemetrySnapshot snapshot : chunk.snapshots())
+			{
+				if (snapshot.getPlayerTime() >= chunk.ownedFromPlayerTime() && snapshot.getPlayerTime() < ownedTo)
+				{
+					snapshot.timeOccured += offset;
+					stitched.add(snapshot);
+				}
+			}
+			previous = chunk.snapshots();
+		}
+		stitched.sort(Comparator.comparingDouble(TelemetrySnapshot::getTime));
+		return stitched;
+	}
+
+	static double alignmentOffset(List<TelemetrySnapshot> previous, List<TelemetrySnapshot> current)
+	{
+		Map<Long, Double> previousTimes = new HashMap<>();
+		for (TelemetrySnapshot snapshot : previous)
+		{
+			previousTimes.put(snapshot.getPlayerTime(), snapshot.getTime());
+		}
+
+		List<Double> deltas = new ArrayList<>();
+		for (TelemetrySnapshot snapshot : current)
+		{
+			Double previousTime = previousTimes.get(snapshot.getPlayerTime());
+			if (previousTime != null)
+			{
+				deltas.add(previousTime - snapshot.getTime());
+			}
+		}
+		if (deltas.isEmpty())
+		{
+			return 0;
+		}
+		deltas.sort(Double::compare);
+		double median = deltas.get(deltas.size() / 2);
+		return Math.abs(median) <= MAX_ALIGNMENT_SECONDS ? median : 0;
+	}
+}
@@ -0,0 +1,32 @@
+package com.telemetryparser.settings;
+
+import com.telemetryparser.util.image.GaussianBlur;
+
+public class BlurModeSetting
+{
+	private static volatile GaussianBlur.Mode mode;
+
+	public static GaussianBlur.Mode get()
+	{
+		GaussianBlur.Mode current = mode;
+		if (current == null)
+		{
+			try
+			{
+				current = GaussianBlur.Mode.valueOf(Settings.getProperty("setting", "blurMode", GaussianBlur.Mode.FIXED_POINT.name()));
+			}
+			catch (IllegalArgumentException e)
+			{
+				current = GaussianBlur.Mode.FIXED_POINT;
+			}
+			mode = current;
+		}
+		return current;
+	}
+
+	public static void set(GaussianBlur.Mode mode)
+	{
+		BlurModeSetting.mode = mode;
+		Settings.setProperty("setting", "blurMode", mode.name());
+	}
+}
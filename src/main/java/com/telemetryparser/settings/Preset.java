@@ -1,11 +1,15 @@
 package com.telemetryparser.settings;
 
 import com.telemetryparser.core.Parameter;
+import com.telemetryparser.core.fixed.EngineSampler;
 import com.telemetryparser.util.EngineLocation;
 import com.telemetryparser.util.ROIRatios;
 import com.telemetryparser.util.UnitTranslation;
+import com.telemetryparser.util.image.PackedRaster;
+import com.telemetryparser.util.ocr.GlyphTemplates;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Preset
 {
@@ -17,6 +21,8 @@ public class Preset
 	private UnitTranslation altitudeTranslation;
 	private boolean usesComma;
 	private String timePrefix;
+	private final Map<Parameter, EngineSampler> engineSamplers = new ConcurrentHashMap<>();
+	private GlyphTemplates glyphTemplates;
 
 	public Preset()
 	{
@@ -65,6 +71,27 @@ public class Preset
 		return stage2EngineMap;
 	}
 
+	public EngineSampler engineSampler(Parameter parameter, Map<Integer, EngineLocation> engineMap, PackedRaster frame)
+	{
+		ROIRatios roi = ratios.get(parameter);
+		EngineSampler sampler = engineSamplers.get(parameter);
+		if (sampler == null || !sampler.matches(engineMap, roi, frame))
+		{
+			sampler = EngineSampler.compile(engineMap, roi, frame);
+			engineSamplers.put(parameter, sampler);
+		}
+		return sampler;
+	}
+
+	public synchronized GlyphTemplates glyphTemplates()
+	{
+		if (glyphTemplates == null)
+		{
+			glyphTemplates = GlyphTemplates.load(name);
+		}
+		return glyphTemplates;
+	}
+
 	public UnitTranslation speedTranslation()
 	{
 		return speedTranslation;
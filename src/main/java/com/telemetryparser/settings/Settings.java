@@ -10,6 +10,9 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -59,15 +62,15 @@ public class Settings
 		}
 	}
 
-	public static void deleteProperty(String group, String property)
+	public static synchronized void deleteProperty(String group, String property)
 	{
 		String key = group + "." + property;
 		if (properties.containsKey(key))
 		{
 			properties.remove(key);
-			try(FileOutputStream fos = new FileOutputStream(ROI_FILE))
+			try
 			{
-				properties.store(fos, "ROI Properties");
+				store();
 			}
 			catch (IOException e)
 			{
@@ -76,6 +79,16 @@ public class Settings
 		}
 	}
 
+	private static void store() throws IOException
+	{
+		File temporary = new File(ROI_FILE + ".tmp");
+		try(FileOutputStream fos = new FileOutputStream(temporary))
+		{
+			properties.store(fos, "ROI Properties");
+		}
+		Files.move(temporary.toPath(), Path.of(ROI_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
 	public static void deleteEngines(String group, int stage)
 	{
 		String prefix = group + "." + "Stage " + stage;
@@ -83,12 +96,12 @@ public class Settings
 	}
 
 
-	public static void setProperty(String group, String property, String value)
+	public static synchronized void setProperty(String group, String property, String value)
 	{
 		properties.setProperty(group+"."+property, value);
-		try(FileOutputStream fos = new FileOutputStream(ROI_FILE))
+		try
 		{
-			properties.store(fos, "ROI Properties");
+			store();
 		}
 		catch (IOException e)
 		{
@@ -148,7 +161,9 @@ public class Settings
 			}
 		}
 
-		return new Preset(ratios, stage1EngineMap, stage2EngineMap, speedTranslation, altitudeTranslation, usesComma, timePrefix);
+		Preset preset = new Preset(ratios, stage1EngineMap, stage2EngineMap, speedTranslation, altitudeTranslation, usesComma, timePrefix);
+		preset.setName(presetName);
+		return preset;
 	}
 
 	private static ROIRatios loadROIRatios(String preset, String keyPrefix)
@@ -206,7 +221,7 @@ public class Settings
 		return engineLocationMap;
 	}
 
-	public static void copyPreset(String currentPreset, String newPreset)
+	public static synchronized void copyPreset(String currentPreset, String newPreset)
 	{
 		String prefix = currentPreset + ".";
 
@@ -221,9 +236,9 @@ public class Settings
 			}
 		}
 
-		try(FileOutputStream fos = new FileOutputStream(ROI_FILE))
+		try
 		{
-			properties.store(fos, "ROI Properties");
+			store();
 		}
 		catch (IOException e)
 		{
@@ -261,7 +276,7 @@ public class Settings
 		deleteByPrefix(preset + ".");
 	}
 
-	private static void deleteByPrefix(String prefix)
+	private static synchronized void deleteByPrefix(String prefix)
 	{
 		List<String> toRemove = new ArrayList<>();
 
@@ -278,9 +293,9 @@ public class Settings
 			properties.remove(key);
 		}
 
-		try(FileOutputStream fos = new FileOutputStream(ROI_FILE))
+		try
 		{
-			properties.store(fos, "ROI Properties");
+			store();
 		}
 		catch (IOException e)
 		{
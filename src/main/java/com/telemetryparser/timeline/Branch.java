@@ -1,5 +1,6 @@
 package com.telemetryparser.timeline;
 
+import com.telemetryparser.core.ClockDomain;
 import com.telemetryparser.core.TelemetrySnapshot;
 import com.telemetryparser.core.OutlierTracker;
 import java.util.ArrayList;
@@ -41,7 +42,7 @@ public class Branch
 			}
 			calibrator.updateFractionalSecond(candidate);
 		}
-		candidate.timeOccured = calibrator.calculateCalibratedTime(candidate.getSystemTime());
+		candidate.timeOccured = calibrator.calculateCalibratedTime(candidate.getClockTime());
 		snapshots.add(candidate);
 
 		boolean anyParamOutlier = tracker.detectAndNullifyOutliers(candidate.parameterMap, candidate.timeOccured);
@@ -50,13 +51,13 @@ public class Branch
 	}
 
 
-	public boolean canAccept(long systemTime, long playerTime)
+	public boolean canAccept(TelemetrySnapshot candidate, ClockDomain domain)
 	{
 		if (!calibrationComplete)
 		{
 			return true;
 		}
-		return calibrator.isTimeInRange(systemTime, playerTime);
+		return calibrator.isTimeInRange(candidate, domain);
 	}
 
 	public List<TelemetrySnapshot> branchSnapshots()
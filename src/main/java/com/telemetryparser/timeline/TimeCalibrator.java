@@ -1,5 +1,6 @@
 package com.telemetryparser.timeline;
 
+import com.telemetryparser.core.ClockDomain;
 import com.telemetryparser.core.TelemetrySnapshot;
 
 class TimeCalibrator
@@ -7,12 +8,12 @@ class TimeCalibrator
 	private static final int REQUIRED_FRAMES = 5;
 	private static final long ALLOWED_DEVIATION_MS = 2000;
 	private int collectedFrames = 0;
-	private long firstSystemTime = 0;
+	private long firstClockTime = 0;
 	private long firstPlayerTime = 0;
 	private double initialSeconds = 0;
 	private double lastRawSeconds = 0;
 	private double fractionalOffset = 0;
-	private long lastSystemTime = 0;
+	private long lastClockTime = 0;
 	private boolean fractionCalibrated = false;
 	private double lastKnownTime = 0;
 
@@ -22,7 +23,7 @@ class TimeCalibrator
 		{
 			initialSeconds = candidate.getTime();
 			lastRawSeconds = candidate.getTime();
-			firstSystemTime = candidate.getSystemTime();
+			firstClockTime = candidate.getClockTime();
 			firstPlayerTime = candidate.getPlayerTime();
 		}
 
@@ -34,7 +35,7 @@ class TimeCalibrator
 		collectedFrames++;
 		if (collectedFrames == REQUIRED_FRAMES)
 		{
-			lastSystemTime = candidate.getSystemTime();
+			lastClockTime = candidate.getClockTime();
 			lastKnownTime = candidate.getTime();
 		}
 		return true;
@@ -47,14 +48,14 @@ class TimeCalibrator
 
 	public boolean validateTime(TelemetrySnapshot candidate)
 	{
-		double expected = lastKnownTime + (candidate.getSystemTime() - lastSystemTime) / 1000.0;
+		double expected = lastKnownTime + (candidate.getClockTime() - lastClockTime) / 1000.0;
 		double observed = candidate.getTime();
 		double delta = Math.abs(observed - expected);
 		if (delta > 2.0)
 		{
 			return false;
 		}
-		lastSystemTime = candidate.getSystemTime();
+		lastClockTime = candidate.getClockTime();
 		lastKnownTime = observed;
 		return true;
 	}
@@ -66,7 +67,7 @@ class TimeCalibrator
 		{
 			if (Math.floor(rawCurrent) != Math.floor(lastRawSeconds))
 			{
-				fractionalOffset = calculateFractionalOffset(rawCurrent, lastSystemTime);
+				fractionalOffset = calculateFractionalOffset(rawCurrent, lastClockTime);
 				fractionCalibrated = true;
 				System.out.println("Fractional second calibration done");
 			}
@@ -74,18 +75,23 @@ class TimeCalibrator
 		lastRawSeconds = rawCurrent;
 	}
 
-	public double calculateCalibratedTime(long systemTime)
+	public double calculateCalibratedTime(long clockTime)
 	{
-		double baseOffset = (systemTime - firstSystemTime) / 1000.0;
+		double baseOffset = (clockTime - firstClockTime) / 1000.0;
 		int zeroOffset = (initialSeconds <= 0) ? -1 : 0;
 		return initialSeconds + baseOffset + fractionalOffset + zeroOffset;
 	}
 
-	public boolean isTimeInRange(long systemTime, long playerTime)
+	public boolean isTimeInRange(TelemetrySnapshot candidate, ClockDomain domain)
 	{
-		long elapsedFromFirstSystemTime = systemTime - firstSystemTime;
-		long approximatePlayerDelta = playerTime - firstPlayerTime;
-		long diff = Math.abs(elapsedFromFirstSystemTime - approximatePlayerDelta);
+		if (domain == ClockDomain.MEDIA)
+		{
+			double expected = lastKnownTime + (candidate.getClockTime() - lastClockTime) / 1000.0;
+			return Math.abs(candidate.getTime() - expected) <= ALLOWED_DEVIATION_MS / 1000.0;
+		}
+		long elapsedFromFirstClockTime = candidate.getClockTime() - firstClockTime;
+		long approximatePlayerDelta = candidate.getPlayerTime() - firstPlayerTime;
+		long diff = Math.abs(elapsedFromFirstClockTime - approximatePlayerDelta);
 		return diff <= ALLOWED_DEVIATION_MS;
 	}
 
@@ -94,9 +100,9 @@ class TimeCalibrator
 		return !(Math.abs(current - last) > 2.0);
 	}
 
-	private double calculateFractionalOffset(double rawSeconds, long lastSystemTime)
+	private double calculateFractionalOffset(double rawSeconds, long lastClockTime)
 	{
-		double offsetSeconds = (lastSystemTime - firstSystemTime) / 1000.0;
+		double offsetSeconds = (lastClockTime - firstClockTime) / 1000.0;
 		double integerPart = Math.floor(rawSeconds);
 		return integerPart - (initialSeconds + offsetSeconds);
 	}
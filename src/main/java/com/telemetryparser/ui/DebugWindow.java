@@ -11,7 +11,15 @@ import com.telemetryparser.core.fixed.CVFuelResult;
 import com.telemetryparser.core.fixed.CVOrientationResult;
 import com.telemetryparser.core.fixed.CVResult;
 import com.telemetryparser.core.fixed.CVTextResult;
+import com.telemetryparser.core.fixed.CompletedFrame;
+import com.telemetryparser.core.fixed.EngineSampler;
+import com.telemetryparser.core.fixed.FrameIntake;
+import com.telemetryparser.core.fixed.FrameProcessor;
+import com.telemetryparser.core.fixed.FrameScheduler;
+import com.telemetryparser.core.fixed.PipelineMetrics;
+import com.telemetryparser.core.fixed.ReorderBuffer;
 import com.telemetryparser.ui.components.ROIViewer;
+import com.telemetryparser.settings.BlurModeSetting;
 import com.telemetryparser.settings.Settings;
 import com.telemetryparser.ui.components.AdaptiveGridPanel;
 import com.telemetryparser.ui.components.EngineDebugPanel;
@@ -22,23 +30,45 @@ import com.telemetryparser.ui.components.slider.SliderSetting;
 import com.telemetryparser.ui.icon.Icon;
 import com.telemetryparser.ui.icon.IconManager;
 import com.telemetryparser.util.EngineLocation;
+import com.telemetryparser.util.TesseractManager;
+import com.telemetryparser.util.image.GaussianBlur;
+import com.telemetryparser.util.image.PixelKernels;
+import com.telemetryparser.util.metrics.LatencyHistogram;
+import com.telemetryparser.util.ocr.InstancePool;
+import com.telemetryparser.util.ocr.OcrCache;
+import com.telemetryparser.util.ocr.OcrProfile;
+import com.telemetryparser.util.ocr.remote.OcrWorkers;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.GridLayout;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import javax.swing.BorderFactory;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
 import javax.swing.JComponent;
 import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
+import javax.swing.JTextField;
+import javax.swing.SpinnerNumberModel;
+import javax.swing.Timer;
 
 public class DebugWindow extends JFrame
 {
 	private final Map<Parameter, ROIViewer> roiViewerMap = new LinkedHashMap<>();
 	private static final Map<SliderSetting, NamedScaledSlider> sliderMap = new LinkedHashMap<>();
+	private static final int METRICS_REFRESH_MS = 500;
 
 	static
 	{
@@ -51,7 +81,11 @@ public class DebugWindow extends JFrame
 			{
 				slider.setValue(sliderValue);
 			}
-			slider.addChangeListener(cl -> settingChanged());
+			slider.addChangeListener(cl ->
+			{
+				setting.setValue(slider.getScaledValue());
+				settingChanged();
+			});
 			sliderMap.put(setting, slider);
 		}
 	}
@@ -68,10 +102,23 @@ public class DebugWindow extends JFrame
 	private final Map<Parameter, EngineDebugPanel> enginePanels = new HashMap<>();
 
 	private final Map<Parameter, OrientationPanel> orientationPanels = new HashMap<>();
+	private final JLabel ocrCacheLabel = new JLabel();
+	private final JLabel ocrPoolLabel = new JLabel();
+	private final JLabel intakeLabel = new JLabel();
+	private final JLabel schedulingLabel = new JLabel();
+	private final JLabel laneLabel = new JLabel();
+	private final JLabel reorderLabel = new JLabel();
+	private final JLabel ocrWorkersLabel = new JLabel();
+	private final JLabel metricsLabel = new JLabel();
+	private final Timer metricsTimer = new Timer(METRICS_REFRESH_MS, al -> updateMetrics());
+	private final FrameIntake intake;
+	private final ReorderBuffer<CompletedFrame> reorderBuffer;
 
 	public DebugWindow(MainWindow parent)
 	{
 		super("Debug Window");
+		intake = parent.getFrameManager().getIntake();
+		reorderBuffer = parent.getFrameManager().getReorderBuffer();
 		setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
 		setLayout(new BorderLayout());
 		AdaptiveGridPanel adaptiveGridPanel = new AdaptiveGridPanel();
@@ -104,6 +151,7 @@ public class DebugWindow extends JFrame
 		}
 
 		eastPanel.add(sliderPanel, BorderLayout.NORTH);
+		eastPanel.add(createPreprocessingPanel(), BorderLayout.CENTER);
 
 		JPanel resetButtonPanel = new JPanel(new BorderLayout());
 
@@ -125,6 +173,7 @@ public class DebugWindow extends JFrame
 		adaptiveGridPanel.addComponent("Stage 2 Engines", createEnginePanel(STAGE_2_ENGINES));
 		adaptiveGridPanel.addComponent("Stage 1 Orientation", createOrientationPanel(STAGE_1_ORIENTATION));
 		adaptiveGridPanel.addComponent("Stage 2 Orientation", createOrientationPanel(STAGE_2_ORIENTATION));
+		adaptiveGridPanel.addComponent("Pipeline Latency", createMetricsPanel());
 
 
 		add(adaptiveGridPanel, BorderLayout.CENTER);
@@ -138,6 +187,20 @@ public class DebugWindow extends JFrame
 				parent.closeDebug();
 			}
 		});
+		addComponentListener(new ComponentAdapter()
+		{
+			@Override
+			public void componentShown(ComponentEvent e)
+			{
+				metricsTimer.start();
+			}
+
+			@Override
+			public void componentHidden(ComponentEvent e)
+			{
+				metricsTimer.stop();
+			}
+		});
 
 		pack();
 		setSize(1000, 600);
@@ -145,6 +208,141 @@ public class DebugWindow extends JFrame
 	}
 
 
+	private JComponent createPreprocessingPanel()
+	{
+		JPanel panel = new JPanel(new GridLayout(0, 1));
+		panel.setBorder(BorderFactory.createTitledBorder("Preprocessing"));
+
+		JComboBox<GaussianBlur.Mode> blurModeBox = new JComboBox<>(GaussianBlur.Mode.values());
+		blurModeBox.setSelectedItem(BlurModeSetting.get());
+		blurModeBox.addActionListener(al -> BlurModeSetting.set((GaussianBlur.Mode) blurModeBox.getSelectedItem()));
+
+		JPanel blurPanel = new JPanel(new BorderLayout());
+		blurPanel.add(new JLabel("Blur"), BorderLayout.WEST);
+		blurPanel.add(blurModeBox, BorderLayout.CENTER);
+		panel.add(blurPanel);
+		panel.add(new JLabel("Kernels: " + PixelKernels.get().name()));
+
+		JCheckBox engineSamplingBox = new JCheckBox("Sample engine centres only", EngineSampler.isEnabled());
+		engineSamplingBox.addActionListener(al -> EngineSampler.setEnabled(engineSamplingBox.isSelected()));
+		panel.add(engineSamplingBox);
+		JComboBox<FrameIntake.Policy> intakePolicyBox = new JComboBox<>(FrameIntake.Policy.values());
+		intakePolicyBox.setSelectedItem(intake.getPolicy());
+		intakePolicyBox.addActionListener(al ->
+		{
+			FrameIntake.Policy policy = (FrameIntake.Policy) intakePolicyBox.getSelectedItem();
+			intake.setPolicy(policy);
+			Settings.setProperty("setting", "intakePolicy", policy.name());
+		});
+
+		JSpinner keepEverySpinner = new JSpinner(new SpinnerNumberModel(intake.getKeepEvery(), 1, 60, 1));
+		keepEverySpinner.addChangeListener(cl ->
+		{
+			intake.setKeepEvery((Integer) keepEverySpinner.getValue());
+			Settings.setProperty("setting", "intakeKeepEvery", String.valueOf(intake.getKeepEvery()));
+		});
+
+		JPanel intakePanel = new JPanel(new BorderLayout());
+		intakePanel.add(new JLabel("Intake"), BorderLayout.WEST);
+		intakePanel.add(intakePolicyBox, BorderLayout.CENTER);
+		intakePanel.add(keepEverySpinner, BorderLayout.EAST);
+		panel.add(intakePanel);
+		panel.add(intakeLabel);
+
+		JSpinner reorderTimeoutSpinner = new JSpinner(new SpinnerNumberModel((int) reorderBuffer.getTimeoutMillis(), 100, 30000, 100));
+		reorderTimeoutSpinner.addChangeListener(cl ->
+		{
+			reorderBuffer.setTimeoutMillis((Integer) reorderTimeoutSpinner.getValue());
+			Settings.setProperty("setting", "reorderTimeoutMs", String.valueOf(reorderBuffer.getTimeoutMillis()));
+		});
+
+		JPanel reorderPanel = new JPanel(new BorderLayout());
+		reorderPanel.add(new JLabel("Stuck frame timeout (ms)"), BorderLayout.WEST);
+		reorderPanel.add(reorderTimeoutSpinner, BorderLayout.CENTER);
+		panel.add(reorderPanel);
+		panel.add(reorderLabel);
+
+		JComboBox<FrameProcessor.Scheduling> schedulingBox = new JComboBox<>(FrameProcessor.Scheduling.values());
+		schedulingBox.setSelectedItem(FrameProcessor.getScheduling());
+		schedulingBox.addActionListener(al -> FrameProcessor.setScheduling((FrameProcessor.Scheduling) schedulingBox.getSelectedItem()));
+
+		JPanel schedulingPanel = new JPanel(new BorderLayout());
+		schedulingPanel.add(new JLabel("Scheduling"), BorderLayout.WEST);
+		schedulingPanel.add(schedulingBox, BorderLayout.CENTER);
+		panel.add(schedulingPanel);
+		panel.add(schedulingLabel);
+		panel.add(laneLabel);
+
+		panel.add(ocrCacheLabel);
+		panel.add(ocrPoolLabel);
+
+		JTextField ocrWorkersField = new JTextField(Settings.getProperty("setting", "ocrWorkers", ""));
+		ocrWorkersField.setToolTipText("Comma separated host[:port] list of OCR workers, empty to recognize locally");
+		ocrWorkersField.addActionListener(al ->
+		{
+			String endpoints = ocrWorkersField.getText().trim();
+			List<String> invalid = OcrWorkers.invalidEndpoints(endpoints);
+			if (!invalid.isEmpty())
+			{
+				JOptionPane.showMessageDialog(this, "Invalid OCR worker address: " + String.join(", ", invalid) + "\nUse host or host:port.", "OCR Workers", JOptionPane.WARNING_MESSAGE);
+				return;
+			}
+			Settings.setProperty("setting", "ocrWorkers", endpoints);
+			OcrWorkers.get().configure(endpoints, OcrWorkers.get().timeoutMillis());
+		});
+
+		JPanel ocrWorkersPanel = new JPanel(new BorderLayout());
+		ocrWorkersPanel.add(new JLabel("OCR workers"), BorderLayout.WEST);
+		ocrWorkersPanel.add(ocrWorkersField, BorderLayout.CENTER);
+		panel.add(ocrWorkersPanel);
+		panel.add(ocrWorkersLabel);
+
+		JPanel wrapper = new JPanel(new BorderLayout());
+		wrapper.add(panel, BorderLayout.NORTH);
+		return wrapper;
+	}
+
+	private JComponent createMetricsPanel()
+	{
+		JPanel panel = new JPanel(new BorderLayout());
+		metricsLabel.setVerticalAlignment(JLabel.TOP);
+		panel.add(new JScrollPane(metricsLabel), BorderLayout.CENTER);
+
+		JButton resetButton = new JButton("Reset Metrics");
+		resetButton.addActionListener(al ->
+		{
+			PipelineMetrics.get().reset();
+			updateMetrics();
+		});
+		panel.add(resetButton, BorderLayout.SOUTH);
+		updateMetrics();
+		return panel;
+	}
+
+	private void updateMetrics()
+	{
+		PipelineMetrics metrics = PipelineMetrics.get();
+		StringBuilder table = new StringBuilder("<html><table><tr><th align=left>Stage</th><th>p50 ms</th><th>p99 ms</th><th>max ms</th><th>/s</th></tr>");
+		for (PipelineMetrics.Stage stage : PipelineMetrics.Stage.values())
+		{
+			appendMetricsRow(table, stage.name, metrics.stage(stage).snapshot());
+		}
+		for (Parameter parameter : Parameter.values())
+		{
+			LatencyHistogram histogram = metrics.parameter(parameter);
+			if (histogram.count() > 0)
+			{
+				appendMetricsRow(table, parameter.name, histogram.snapshot());
+			}
+		}
+		metricsLabel.setText(table.append("</table></html>").toString());
+	}
+
+	private static void appendMetricsRow(StringBuilder table, String name, LatencyHistogram.Snapshot snapshot)
+	{
+		table.append(String.format("<tr><td>%s</td><td align=right>%.1f</td><td align=right>%.1f</td><td align=right>%.1f</td><td align=right>%.1f</td></tr>", name, snapshot.p50Millis(), snapshot.p99Millis(), snapshot.maxMillis(), snapshot.perSecond()));
+	}
+
 	private JComponent createOrientationPanel(Parameter parameter)
 	{
 		OrientationPanel panel = new OrientationPanel(parameter);
@@ -169,7 +367,7 @@ public class DebugWindow extends JFrame
 
 	public static double getSettingValue(SliderSetting setting)
 	{
-		return sliderMap.get(setting).getScaledValue();
+		return setting.value();
 	}
 
 	public void setEngineMap(Parameter parameter, Map<Integer, EngineLocation> engineMap)
@@ -183,6 +381,25 @@ public class DebugWindow extends JFrame
 
 	public void updateFrameData(Map<Parameter, CVResult> results)
 	{
+		intakeLabel.setText(String.format("Intake: %d/%d queued, %d accepted, %d dropped", intake.depth(), intake.capacity(), intake.accepted(), intake.dropped()));
+		reorderLabel.setText(String.format("Reorder: %d pending, %d delivered, %d gaps, %d timed out, %d late", reorderBuffer.pending(), reorderBuffer.delivered(), reorderBuffer.gaps(), reorderBuffer.timedOut(), reorderBuffer.late()));
+		schedulingLabel.setText(String.format("Clock failure rate: %.0f%%", FrameProcessor.getClockFailureRate() * 100));
+		FrameScheduler.LaneStats cpuLane = FrameScheduler.get().cpuStats();
+		FrameScheduler.LaneStats ocrLane = FrameScheduler.get().ocrStats();
+		laneLabel.setText(String.format("CPU lane: %d active, %d queued; OCR lane: %d active, %d queued", cpuLane.active(), cpuLane.queued(), ocrLane.active(), ocrLane.queued()));
+		OcrWorkers workers = OcrWorkers.get();
+		ocrWorkersLabel.setText(workers.isEnabled()
+			? String.format("OCR workers: %d/%d connected, %d remote requests, %d failures", workers.connected(), workers.configured(), workers.remoteRequests(), workers.failures())
+			: "OCR workers: local only");
+		OcrCache cache = TesseractManager.cache();
+		ocrCacheLabel.setText(String.format("OCR cache: %d hits, %d misses (%.0f%%), %d entries", cache.hits(), cache.misses(), cache.hitRate() * 100, cache.size()));
+		StringBuilder pools = new StringBuilder("<html>");
+		for (OcrProfile profile : OcrProfile.values())
+		{
+			InstancePool.Stats pool = TesseractManager.poolStats(profile);
+			pools.append(String.format("%s pool gen %d: %d/%d busy, limit %d, %.0f%% util, %d waits (%.1f ms)<br>", profile.name, TesseractManager.generation(profile).version(), pool.inUse(), pool.size(), pool.limit(), pool.utilization() * 100, pool.waits(), pool.meanWaitMillis()));
+		}
+		ocrPoolLabel.setText(pools.append("</html>").toString());
 		for(Parameter parameter : results.keySet())
 		{
 			switch(results.get(parameter))
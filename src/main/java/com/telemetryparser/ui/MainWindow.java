@@ -1,5 +1,6 @@
 package com.telemetryparser.ui;
 
+import com.telemetryparser.core.ClockDomain;
 import com.telemetryparser.core.Parameter;
 import static com.telemetryparser.core.Parameter.*;
 import com.telemetryparser.core.ParameterType;
@@ -101,7 +102,7 @@ public class MainWindow extends JFrame
 
 		videoPlayer.addVideoPlayerFrameChangedListener((image, playerTime, systemTime) ->
 		{
-			timelineManager.queueFrame(new FrameData(image, playerTime, systemTime, getPreset()));
+			timelineManager.queueFrame(new FrameData(image, playerTime, systemTime, ClockDomain.WALL, getPreset()));
 		});
 
 		videoPlayer.addMediaDimensionChangedListener(this::handleOverlaySizing);
@@ -301,7 +302,7 @@ public class MainWindow extends JFrame
 		JButton clearData = new JButton("Clear Data");
 		writeData.addActionListener(al ->
 		{
-			timelineManager.writeData();
+			writeData();
 		});
 		clearData.addActionListener(al -> clearData());
 		topPanel.add(writeData);
@@ -720,6 +721,52 @@ public class MainWindow extends JFrame
 		return menuBar;
 	}
 
+	private void writeData()
+	{
+		String existingFileLocation = Settings.getProperty("setting", "saveFileLocation");
+		File defaultLocation = (existingFileLocation != null) ? new File(existingFileLocation) : null;
+
+		JFileChooser fileChooser = (defaultLocation != null && defaultLocation.exists()) ? new JFileChooser(defaultLocation) : new JFileChooser();
+		fileChooser.setDialogTitle("Choose where to save the file");
+		fileChooser.setFileSelectionMode(JFileChooser.FILES_ONLY);
+
+		int userSelection = fileChooser.showSaveDialog(this);
+
+		if (userSelection == JFileChooser.APPROVE_OPTION)
+		{
+			File selectedFile = fileChooser.getSelectedFile();
+
+			if (selectedFile.exists())
+			{
+				JOptionPane.showMessageDialog(this,
+					"File already exists. Please choose a different name or location.", "File Exists", JOptionPane.WARNING_MESSAGE);
+			}
+			else
+			{
+				try
+				{
+					if (selectedFile.createNewFile())
+					{
+						String filePath = selectedFile.getAbsolutePath();
+						timelineManager.writeDataToFile(filePath);
+						Settings.setProperty("setting", "saveFileLocation", selectedFile.getParentFile().getAbsolutePath());
+
+					}
+					else
+					{
+						JOptionPane.showMessageDialog(this, "Could not create the file.", "Error", JOptionPane.ERROR_MESSAGE);
+					}
+				}
+				catch (IOException e)
+				{
+					JOptionPane.showMessageDialog(this,
+						"An I/O error occurred while creating the file:\n" + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+					System.out.println("An I/O error occurred while creating the file: " + e.getMessage());
+				}
+			}
+		}
+	}
+
 	private void dumpHeap()
 	{
 		JFileChooser fc = new JFileChooser();
@@ -890,6 +937,11 @@ public class MainWindow extends JFrame
 		showDebugItem.setState(false);
 	}
 
+	public FrameManager getFrameManager()
+	{
+		return timelineManager;
+	}
+
 	public Map<Integer, EngineLocation> getStage1Engines()
 	{
 		return stage1EngineMap;
@@ -1,5 +1,7 @@
 package com.telemetryparser.ui.components.slider;
 
+import com.telemetryparser.settings.Settings;
+
 public enum SliderSetting
 {
 	RADIUS("Radius", 1, 0, 250, 68),
@@ -15,6 +17,7 @@ public enum SliderSetting
 	private final int min;
 	private final int max;
 	private final int defaultValue;
+	private volatile double value = Double.NaN;
 
 	SliderSetting(String displayName, int decimalPlaces, int min, int max, int defaultValue)
 	{
@@ -30,6 +33,24 @@ public enum SliderSetting
 		return displayName;
 	}
 
+	public double value()
+	{
+		double current = value;
+		if (Double.isNaN(current))
+		{
+			Double stored = Settings.getPropertyAsDouble("sliderSetting", displayName);
+			double scale = Math.pow(10, decimalPlaces);
+			current = stored != null ? (int) (stored * scale) / scale : defaultValue / scale;
+			value = current;
+		}
+		return current;
+	}
+
+	public void setValue(double value)
+	{
+		this.value = value;
+	}
+
 	public NamedScaledSlider createSlider()
 	{
 		return new NamedScaledSlider(displayName, decimalPlaces, min, max, defaultValue);
@@ -28,4 +28,27 @@ public class FontLoader
 			e.printStackTrace();
 		}
 	}
+
+	public static Font loadFont(String nameContains)
+	{
+		File[] fontFiles = new File("fonts").listFiles();
+		if (fontFiles != null)
+		{
+			for (File fontFile : fontFiles)
+			{
+				if (fontFile.getName().contains(nameContains))
+				{
+					try (InputStream in = new FileInputStream(fontFile))
+					{
+						return Font.createFont(Font.TRUETYPE_FONT, in);
+					}
+					catch (IOException | FontFormatException e)
+					{
+						System.out.println("Could not load font " + fontFile.getName() + ": " + e.getMessage());
+					}
+				}
+			}
+		}
+		return new Font(Font.SANS_SERIF, Font.BOLD, 1);
+	}
 }
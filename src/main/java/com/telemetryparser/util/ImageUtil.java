@@ -1,23 +1,26 @@
 package com.telemetryparser.util;
 
-import java.awt.Color;
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.image.ComponentLabeler;
+import com.telemetryparser.util.image.ComponentLabeler.Connectivity;
+import com.telemetryparser.util.image.GaussianBlur;
+import com.telemetryparser.util.image.GrayPlane;
+import com.telemetryparser.util.image.ImagePreprocessor;
+import com.telemetryparser.util.image.IntegralImage;
+import com.telemetryparser.util.image.PackedRaster;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.awt.image.BufferedImageOp;
-import java.awt.image.ConvolveOp;
-import java.awt.image.Kernel;
+import java.awt.image.DataBufferInt;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import javax.imageio.ImageIO;
 
 public class ImageUtil
@@ -36,112 +39,37 @@ public class ImageUtil
 		return scaled;
 	}
 
-	public static BufferedImage unsharpMask(BufferedImage source, double radius, double amount, int threshold)
+	public static BufferedImage unsharpMask(BufferedImage source, double radius, GaussianBlur.Mode blurMode, double amount, int threshold)
 	{
-		BufferedImage blurred = gaussianBlur(source, radius);
-		BufferedImage result = new BufferedImage(source.getWidth(), source.getHeight(), source.getType());
-
-		for (int y = 0; y < source.getHeight(); y++)
-		{
-			for (int x = 0; x < source.getWidth(); x++)
-			{
-				int srcRGB = source.getRGB(x, y) & 0xFF;
-				int blurRGB = blurred.getRGB(x, y) & 0xFF;
-
-				int diff = srcRGB - blurRGB;
-				if (Math.abs(diff) < threshold)
-				{
-					diff = 0;
-				}
-
-				int newVal = (int) Math.round(srcRGB + (amount * diff));
-				newVal = Math.min(255, Math.max(0, newVal));
-				int grayRGB = (newVal << 16) | (newVal << 8) | newVal;
-				result.setRGB(x, y, grayRGB);
-			}
-		}
-
-		return result;
+		return ImagePreprocessor.forCurrentThread().sharpen(source, radius, blurMode, amount, threshold).toImage();
 	}
 
-	public static float[] createGaussianKernel(int size, double radius)
+	public static BufferedImage gaussianBlur(BufferedImage source, double radius, GaussianBlur.Mode mode)
 	{
-		float[] data = new float[size * size];
-		if (radius <= 0)
-		{
-			data[size * size / 2] = 1f;
-			return data;
-		}
-
-		double sigma = radius / 3.0;
-		double mean = size / 2.0;
-		double sum = 0.0;
-
-		for (int y = 0; y < size; y++)
-		{
-			for (int x = 0; x < size; x++)
+		PackedRaster raster = PackedRaster.of(source);
+		int width = raster.width();
+		int height = raster.height();
+		GaussianBlur blur = new GaussianBlur();
+		GrayPlane channel = new GrayPlane();
+		GrayPlane blurred = new GrayPlane();
+
+		BufferedImage output = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		int[] out = ((DataBufferInt) output.getRaster().getDataBuffer()).getData();
+		for (int shift = 0; shift <= 16; shift += 8)
+		{
+			blur.blur(channel.load(raster, shift), blurred, radius, mode);
+			int[] values = blurred.pixels();
+			for (int i = 0; i < width * height; i++)
 			{
-				double dx = x - mean;
-				double dy = y - mean;
-				double value = Math.exp(-(dx * dx + dy * dy) / (2 * sigma * sigma));
-				data[y * size + x] = (float) value;
-				sum += value;
+				out[i] |= values[i] << shift;
 			}
 		}
-
-		for (int i = 0; i < data.length; i++)
-		{
-			data[i] /= (float) sum;
-		}
-
-		return data;
-	}
-
-	public static BufferedImage gaussianBlur(BufferedImage source, double radius)
-	{
-		int kernelSize = (int) Math.ceil(radius * 3);
-		if (kernelSize < 1)
-		{
-			kernelSize = 1;
-		}
-		if (kernelSize % 2 == 0)
-		{
-			kernelSize++;
-		}
-
-		float[] kernelData = createGaussianKernel(kernelSize, radius);
-		Kernel kernel = new Kernel(kernelSize, kernelSize, kernelData);
-
-		BufferedImageOp op = new ConvolveOp(kernel, ConvolveOp.EDGE_NO_OP, null);
-		BufferedImage blurred = new BufferedImage(source.getWidth(), source.getHeight(), source.getType());
-		op.filter(source, blurred);
-
-		return blurred;
+		return output;
 	}
 
 	public static BufferedImage thresholdBlackWhite(BufferedImage source, int threshold)
 	{
-		BufferedImage output = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
-
-		for (int y = 0; y < source.getHeight(); y++)
-		{
-			for (int x = 0; x < source.getWidth(); x++)
-			{
-				int rgb = source.getRGB(x, y);
-				int r = (rgb >> 16) & 0xFF;
-				int g = (rgb >> 8) & 0xFF;
-				int b = (rgb) & 0xFF;
-				if (r > threshold && g > threshold && b > threshold)
-				{
-					output.setRGB(x, y, 0xFFFFFF);
-				}
-				else
-				{
-					output.setRGB(x, y, 0x000000);
-				}
-			}
-		}
-		return output;
+		return ImagePreprocessor.threshold(source, threshold);
 	}
 
 	public static BufferedImage extractROI(BufferedImage frame, ROIRatios roiRatios)
@@ -151,22 +79,28 @@ public class ImageUtil
 			return null;
 		}
 
-		int x = (int) (roiRatios.xRatio * frame.getWidth());
-		int y = (int) (roiRatios.yRatio * frame.getHeight());
-		int width = (int) (roiRatios.widthRatio * frame.getWidth());
-		int height = (int) (roiRatios.heightRatio * frame.getHeight());
-
-		x = Math.max(0, Math.min(x, frame.getWidth() - 1));
-		y = Math.max(0, Math.min(y, frame.getHeight() - 1));
-		width = Math.min(width, frame.getWidth() - x);
-		height = Math.min(height, frame.getHeight() - y);
-
-		if (width <= 0 || height <= 0)
+		Rectangle roi = computeROI(frame.getWidth(), frame.getHeight(), roiRatios);
+		if (roi.width <= 0 || roi.height <= 0)
 		{
 			return null;
 		}
 
-		return frame.getSubimage(x, y, width, height);
+		return frame.getSubimage(roi.x, roi.y, roi.width, roi.height);
+	}
+
+	public static Rectangle computeROI(int frameWidth, int frameHeight, ROIRatios roiRatios)
+	{
+		int x = (int) (roiRatios.xRatio * frameWidth);
+		int y = (int) (roiRatios.yRatio * frameHeight);
+		int width = (int) (roiRatios.widthRatio * frameWidth);
+		int height = (int) (roiRatios.heightRatio * frameHeight);
+
+		x = Math.max(0, Math.min(x, frameWidth - 1));
+		y = Math.max(0, Math.min(y, frameHeight - 1));
+		width = Math.min(width, frameWidth - x);
+		height = Math.min(height, frameHeight - y);
+
+		return new Rectangle(x, y, width, height);
 	}
 
 	private static int count = 0;
@@ -186,11 +120,11 @@ public class ImageUtil
 
 	public static EngineData computeEngineBounds(BufferedImage engineRegionImage, int width, int height, long initialX, long initialY)
 	{
-		BufferedImage thresholdedImage = ImageUtil.thresholdBlackWhite(engineRegionImage, 100);
+		BinaryImage thresholdedImage = BinaryImage.fromImage(ImageUtil.thresholdBlackWhite(engineRegionImage, 100));
 
 		Rectangle bounds = computeNonBlackRegion(thresholdedImage);
 		ROIRatios ratios = new ROIRatios((double) (bounds.x + initialX) / width, (double) (bounds.y + initialY) / height, (double) (bounds.width) / width, (double) (bounds.height) / height);
-		BufferedImage croppedImage = thresholdedImage.getSubimage(bounds.x, bounds.y, bounds.width, bounds.height);
+		BinaryImage croppedImage = thresholdedImage.crop(bounds.x, bounds.y, bounds.width, bounds.height);
 		List<EngineLocation> engineLocations = findEngineLocations(croppedImage);
 		Map<Integer, EngineLocation> engineMap = findEngineRingsAndOrder(engineLocations);
 
@@ -305,293 +239,147 @@ public class ImageUtil
 		return (angleFromTop + 2 * Math.PI) % (2 * Math.PI);
 	}
 
-	record RadiusPoint(int x, int y, int radius) {}
-
 	public static List<EngineLocation> findEngineLocations(BufferedImage image)
 	{
-		int width = image.getWidth();
-		int height = image.getHeight();
-
-		boolean[][] visited = new boolean[width][height];
-
-		List<EngineLocation> locations = new ArrayList<>();
-
-		boolean shouldUseFloodFillMethod = !containsLargeBlob(image);
-		
-		for (int y = 0; y < height; y++)
-		{
-			for (int x = 0; x < width; x++)
-			{
-				if (isWhite(image.getRGB(x, y)) && !visited[x][y])
-				{
-					if(shouldUseFloodFillMethod)
-					{
-						List<Point> blobPixels = bfsCollectBlob(image, x, y, visited, Color.WHITE, true);
-						List<EngineLocation> engines = splitCollectedBlobs(blobPixels, width, height);
-						locations.addAll(engines);
-					}
-					else
-					{
-						List<Point> blobPixels = dynamicCollectBlob(image, x, y, visited, Color.WHITE);
-						RadiusPoint radiusPoint = computeCentroidAndRadius(blobPixels);
-						locations.add(new EngineLocation(new Point(radiusPoint.x, radiusPoint.y), radiusPoint.radius, null));
-					}
-				}
-			}
-		}
-		return locations;
+		return findEngineLocations(BinaryImage.fromImage(image));
 	}
 
-	private static RadiusPoint computeCentroidAndRadius(List<Point> blobPixels)
+	public static List<EngineLocation> findEngineLocations(BinaryImage image)
 	{
-		double maxDist = 0;
-		double sumX = 0;
-		double sumY = 0;
-		for (Point p : blobPixels)
-		{
-			sumX += p.x;
-			sumY += p.y;
-		}
-		double centerX = sumX / blobPixels.size();
-		double centerY = sumY / blobPixels.size();
+		ComponentLabeler blobs = new ComponentLabeler().label(image, Connectivity.EIGHT);
 
-		for (Point p : blobPixels)
+		if (containsLargeBlob(image))
 		{
-			double dx = p.x - centerX;
-			double dy = p.y - centerY;
-			double dist = Math.sqrt(dx * dx + dy * dy);
-			if (dist > maxDist)
-			{
-				maxDist = dist;
-			}
+			return findSolidEngines(image, blobs);
 		}
-		return new RadiusPoint((int) Math.round(centerX), (int) Math.round(centerY), (int) Math.round(maxDist));
+		return findRingEngines(image, blobs);
 	}
 
-	public static boolean containsLargeBlob(BufferedImage image)
+	private static List<EngineLocation> findRingEngines(BinaryImage image, ComponentLabeler blobs)
 	{
-		int width = image.getWidth();
-		int height = image.getHeight();
+		int width = image.width();
+		int height = image.height();
+		int[] blobLabels = blobs.labels();
+		ComponentLabeler holes = new ComponentLabeler();
+		List<EngineLocation> engineLocations = new ArrayList<>();
 
-		for (int x = 0; x <= width - 5; x++)
+		for (int blob = 1; blob <= blobs.count(); blob++)
 		{
-			for (int y = 0; y <= height - 5; y++)
+			int left = blobs.minX(blob) - 1;
+			int top = blobs.minY(blob) - 1;
+			int windowWidth = blobs.maxX(blob) - left + 2;
+			int windowHeight = blobs.maxY(blob) - top + 2;
+
+			BinaryImage background = new BinaryImage(windowWidth, windowHeight);
+			for (int wy = 0; wy < windowHeight; wy++)
 			{
-				if (is5x5White(image, x, y))
+				int y = top + wy;
+				for (int wx = 0; wx < windowWidth; wx++)
 				{
-					return true;
+					int x = left + wx;
+					if (x >= 0 && x < width && y >= 0 && y < height && blobLabels[y * width + x] != blob)
+					{
+						background.set(wx, wy);
+					}
 				}
 			}
-		}
-		return false;
-	}
+			holes.label(background, Connectivity.FOUR, left, top);
 
-	private static boolean is5x5White(BufferedImage image, int startX, int startY)
-	{
-		for (int dx = 0; dx < 5; dx++)
-		{
-			for (int dy = 0; dy < 5; dy++)
+			boolean[] exterior = new boolean[holes.count() + 1];
+			for (int wx = 0; wx < windowWidth; wx++)
 			{
-				int rgb = image.getRGB(startX + dx, startY + dy);
-				if (!isWhite(rgb))
-				{
-					return false;
-				}
+				exterior[holes.labelAt(wx, 0)] = true;
+				exterior[holes.labelAt(wx, windowHeight - 1)] = true;
 			}
-		}
-		return true;
-	}
-
-	private static List<EngineLocation> splitCollectedBlobs(List<Point> blobPixels, int width, int height)
-	{
-		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-		Graphics2D g2 = image.createGraphics();
-		g2.setColor(Color.BLACK);
-		g2.fillRect(0, 0, width, height);
-		g2.dispose();
-
-		for (Point p : blobPixels)
-		{
-			image.setRGB(p.x, p.y, Color.WHITE.getRGB());
-		}
-
-		boolean[][] visited = new boolean[width][height];
-
-		floodFillBlackToWhite(image, 0, 0, visited);
-		floodFillBlackToWhite(image, 0, height-1, visited);
-		floodFillBlackToWhite(image, width-1, 0, visited);
-		floodFillBlackToWhite(image, width-1, height-1, visited);
-
-		visited = new boolean[width][height];
-		List<EngineLocation> engineLocations = new ArrayList<>();
-
-		for (int y = 0; y < height; y++)
-		{
-			for (int x = 0; x < width; x++)
+			for (int wy = 0; wy < windowHeight; wy++)
+			{
+				exterior[holes.labelAt(0, wy)] = true;
+				exterior[holes.labelAt(windowWidth - 1, wy)] = true;
+			}
+			int[][] corners = {{0, 0}, {width - 1, 0}, {0, height - 1}, {width - 1, height - 1}};
+			for (int[] corner : corners)
 			{
-				if (!visited[x][y] && isBlack(image.getRGB(x, y)))
+				int wx = corner[0] - left;
+				int wy = corner[1] - top;
+				if (wx < 0 || wx >= windowWidth || wy < 0 || wy >= windowHeight)
 				{
-					List<Point> blackBlob = collectBlackBlob(image, x, y, visited);
-
-					RadiusPoint radiusPoint = computeCentroidAndRadius(blackBlob);
-
-
-					EngineLocation location = new EngineLocation(new Point(radiusPoint.x, radiusPoint.y), radiusPoint.radius, null);
-
-					if(radiusPoint.radius > 7)
-					{
-						engineLocations.add(location);
-					}
+					continue;
+				}
+				markExterior(holes, exterior, wx, wy);
+				if (holes.labelAt(wx, wy) == 0)
+				{
+					markExterior(holes, exterior, wx + 1, wy);
+					markExterior(holes, exterior, wx - 1, wy);
+					markExterior(holes, exterior, wx, wy + 1);
+					markExterior(holes, exterior, wx, wy - 1);
 				}
 			}
-		}
-
-		return engineLocations;
-	}
-
-	private static void floodFillBlackToWhite(BufferedImage image, int startX, int startY, boolean[][] visited)
-	{
-		int width = image.getWidth();
-		int height = image.getHeight();
-
-		Queue<Point> queue = new LinkedList<>();
-		queue.add(new Point(startX, startY));
-		visited[startX][startY] = true;
-
-		while (!queue.isEmpty())
-		{
-			Point current = queue.poll();
-			image.setRGB(current.x, current.y, Color.WHITE.getRGB());
-			visitRegion(image, visited, width, height, queue, current);
-		}
-	}
 
-	private static void visitRegion(BufferedImage image, boolean[][] visited, int width, int height, Queue<Point> queue, Point current)
-	{
-		int[][] dirs = { {1,0}, {-1,0}, {0,1}, {0,-1} };
-		for (int[] d : dirs)
-		{
-			int nx = current.x + d[0];
-			int ny = current.y + d[1];
-			if (nx >= 0 && nx < width && ny >= 0 && ny < height)
+			for (int hole = 1; hole <= holes.count(); hole++)
 			{
-				if (!visited[nx][ny] && isBlack(image.getRGB(nx, ny)))
+				int radius = (int) Math.round(holes.radius(hole));
+				if (!exterior[hole] && radius > 7)
 				{
-					visited[nx][ny] = true;
-					queue.add(new Point(nx, ny));
+					engineLocations.add(toEngineLocation(holes, hole));
 				}
 			}
 		}
+		return engineLocations;
 	}
 
-	private static List<Point> collectBlackBlob(BufferedImage image, int startX, int startY, boolean[][] visited)
+	private static void markExterior(ComponentLabeler holes, boolean[] exterior, int x, int y)
 	{
-		int width = image.getWidth();
-		int height = image.getHeight();
-
-		List<Point> blob = new ArrayList<>();
-		Queue<Point> queue = new LinkedList<>();
-
-		queue.add(new Point(startX, startY));
-		visited[startX][startY] = true;
-
-		while (!queue.isEmpty())
+		if (x >= 0 && x < holes.width() && y >= 0 && y < holes.height())
 		{
-			Point current = queue.poll();
-			blob.add(current);
-
-			visitRegion(image, visited, width, height, queue, current);
+			exterior[holes.labelAt(x, y)] = true;
 		}
-		return blob;
 	}
 
-	private static boolean isBlack(int rgb)
+	private static List<EngineLocation> findSolidEngines(BinaryImage image, ComponentLabeler blobs)
 	{
-		return (rgb == Color.BLACK.getRGB());
-	}
+		ComponentLabeler parts = new ComponentLabeler().label(image, Connectivity.FOUR);
+		int[] blobLabels = blobs.labels();
+		int[] partLabels = parts.labels();
 
-	private static List<Point> dynamicCollectBlob(BufferedImage image, int startX, int startY, boolean[][] visited, Color target)
-	{
-		boolean[][] mask = new boolean[visited.length][visited[0].length];
-		List<Point> blobPixels = bfsCollectBlob(image, startX, startY, mask, target, true);
-
-		int minX = Integer.MAX_VALUE;
-		int maxX = Integer.MIN_VALUE;
-		for (Point p : blobPixels)
+		boolean[] split = new boolean[blobs.count() + 1];
+		for (int blob = 1; blob <= blobs.count(); blob++)
 		{
-			minX = Math.min(minX, p.x);
-			maxX = Math.max(maxX, p.x);
+			int diameter = blobs.maxX(blob) - blobs.minX(blob);
+			split[blob] = blobs.area(blob) > diameter * Math.PI * 1.5;
 		}
-		int diameter = maxX - minX;
-
-		if (blobPixels.size() > diameter * Math.PI * 1.5)
-		{
-			visited[startX][startY] = true;
-			blobPixels = bfsCollectBlob(image, startX, startY, visited, target, false);
 
-		}
-		else
+		List<EngineLocation> engineLocations = new ArrayList<>();
+		for (int i = 0; i < image.width() * image.height(); i++)
 		{
-			for(int y = 0; y < mask[0].length; y++)
+			int blob = blobLabels[i];
+			if (blob == 0)
 			{
-				for(int x = 0; x < mask.length; x++)
-				{
-					if(mask[x][y])
-					{
-						visited[x][y] = true;
-					}
-				}
+				continue;
 			}
-		}
-
-		return blobPixels;
-	}
-
-	private static List<Point> bfsCollectBlob(BufferedImage image, int startX, int startY, boolean[][] visited, Color targetColor, boolean includeDiagonals)
-	{
-		int[][] directions4 = {{0,1}, {0,-1}, {1,0}, {-1,0}};
-		int[][] directions8 = {{0,1}, {0,-1}, {1,0}, {-1,0}, {1,1}, {1,-1}, {-1,1}, {-1,-1}};
-		int[][] directions = includeDiagonals ? directions8 : directions4;
-
-		List<Point> blobPixels = new ArrayList<>();
-		Queue<Point> queue = new LinkedList<>();
-
-		queue.add(new Point(startX, startY));
-		visited[startX][startY] = true;
-
-		while (!queue.isEmpty())
-		{
-			Point current = queue.poll();
-			blobPixels.add(current);
-
-			for (int[] dir : directions)
+			if (split[blob])
 			{
-				int nx = current.x + dir[0];
-				int ny = current.y + dir[1];
-
-				if (nx >= 0 && nx < image.getWidth() && ny >= 0 && ny < image.getHeight())
+				if (parts.firstIndex(partLabels[i]) == i)
 				{
-					if (!visited[nx][ny] && matchesColor(image.getRGB(nx, ny), targetColor))
-					{
-						visited[nx][ny] = true;
-						queue.add(new Point(nx, ny));
-					}
+					engineLocations.add(toEngineLocation(parts, partLabels[i]));
 				}
 			}
+			else if (blobs.firstIndex(blob) == i)
+			{
+				engineLocations.add(toEngineLocation(blobs, blob));
+			}
 		}
-
-		return blobPixels;
+		return engineLocations;
 	}
 
-	private static boolean matchesColor(int rgb, Color targetColor)
+	private static EngineLocation toEngineLocation(ComponentLabeler components, int label)
 	{
-		return (rgb == targetColor.getRGB());
+		Point middle = new Point((int) Math.round(components.centroidX(label)), (int) Math.round(components.centroidY(label)));
+		return new EngineLocation(middle, (int) Math.round(components.radius(label)), null);
 	}
 
-	private static boolean isWhite(int rgb)
+	public static boolean containsLargeBlob(BinaryImage image)
 	{
-		Color c = new Color(rgb);
-		return c.getRed() == 255 && c.getGreen() == 255 && c.getBlue() == 255;
+		return IntegralImage.of(image).containsFullWindow(5);
 	}
 
 	public static ROIRatios computeFuelRegion(BufferedImage fuelRegionImage, int width, int height, long initialX, long initialY)
@@ -602,21 +390,21 @@ public class ImageUtil
 
 	public static Rectangle computeNonBlackRegion(BufferedImage fuelRegionImage)
 	{
-		int firstX = fuelRegionImage.getWidth();
-		int firstY = fuelRegionImage.getHeight();
-		int lastX = 0;
-		int lastY = 0;
+		PackedRaster raster = PackedRaster.of(fuelRegionImage);
+		int[] data = raster.data();
+		BinaryImage changed = new BinaryImage(raster.width(), raster.height());
 
-		int baseColor = fuelRegionImage.getRGB(0, 0);
+		int baseColor = data[raster.rowStart(0)];
 		int baseR = (baseColor >> 16) & 0xFF;
 		int baseG = (baseColor >> 8) & 0xFF;
 		int baseB = baseColor & 0xFF;
 
-		for (int y = 0; y < fuelRegionImage.getHeight(); y++)
+		for (int y = 0; y < raster.height(); y++)
 		{
-			for (int x = 0; x < fuelRegionImage.getWidth(); x++)
+			int rowStart = raster.rowStart(y);
+			for (int x = 0; x < raster.width(); x++)
 			{
-				int rgb = fuelRegionImage.getRGB(x, y);
+				int rgb = data[rowStart + x];
 				int r = (rgb >> 16) & 0xFF;
 				int g = (rgb >> 8) & 0xFF;
 				int b = rgb & 0xFF;
@@ -625,79 +413,32 @@ public class ImageUtil
 
 				if (!isNearBase)
 				{
-					firstX = Math.min(firstX, x);
-					firstY = Math.min(firstY, y);
-					lastX = Math.max(lastX, x);
-					lastY = Math.max(lastY, y);
+					changed.set(x, y);
 				}
 			}
 		}
-
-		lastX++;
-		lastY++;
-
-		if (firstX > lastX || firstY > lastY)
-		{
-			return new Rectangle(0, 0, 1, 1);
-		}
-		return new Rectangle(firstX, firstY, lastX-firstX, lastY-firstY);
+		return regionOrDefault(IntegralImage.of(changed).bounds(true));
 	}
 
-	public static boolean checkForSuspiciousTextImage(BufferedImage image)
+	public static Rectangle computeNonBlackRegion(BinaryImage image)
 	{
-		int width = image.getWidth();
-		int height = image.getHeight();
-
-		boolean whiteOnEdge = false;
+		return regionOrDefault(IntegralImage.of(image).bounds(!image.get(0, 0)));
+	}
 
-		for (int x = 0; x < width; x++)
-		{
-			if (isWhite(image.getRGB(x, 0)) || isWhite(image.getRGB(x, height - 1)))
-			{
-				whiteOnEdge = true;
-				break;
-			}
-		}
-		if (!whiteOnEdge)
-		{
-			for (int y = 0; y < height; y++)
-			{
-				if (isWhite(image.getRGB(0, y)) || isWhite(image.getRGB(width - 1, y)))
-				{
-					whiteOnEdge = true;
-					break;
-				}
-			}
-		}
+	private static Rectangle regionOrDefault(Rectangle region)
+	{
+		return region == null ? new Rectangle(0, 0, 1, 1) : region;
+	}
 
-		int topMostWhite = -1;
-		int bottomMostWhite = -1;
+	public static boolean checkForSuspiciousTextImage(BinaryImage image)
+	{
+		int width = image.width();
+		int height = image.height();
 
-		outerTop:
-		for (int y = 0; y < height; y++)
-		{
-			for (int x = 0; x < width; x++)
-			{
-				if (isWhite(image.getRGB(x, y)))
-				{
-					topMostWhite = y;
-					break outerTop;
-				}
-			}
-		}
+		boolean whiteOnEdge = image.rowHasAny(0) || image.rowHasAny(height - 1) || image.columnHasAny(0) || image.columnHasAny(width - 1);
 
-		outerBottom:
-		for (int y = height - 1; y >= 0; y--)
-		{
-			for (int x = 0; x < width; x++)
-			{
-				if (isWhite(image.getRGB(x, y)))
-				{
-					bottomMostWhite = y;
-					break outerBottom;
-				}
-			}
-		}
+		int topMostWhite = image.firstSetRow();
+		int bottomMostWhite = image.lastSetRow();
 
 		boolean topBottomCheck = false;
 		if (topMostWhite != -1 && bottomMostWhite != -1)
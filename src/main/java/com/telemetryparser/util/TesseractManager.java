@@ -1,147 +1,161 @@
 package com.telemetryparser.util;
 
-import java.awt.image.BufferedImage;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.ocr.InstancePool;
+import com.telemetryparser.util.ocr.OcrCache;
+import com.telemetryparser.util.ocr.OcrEngine;
+import com.telemetryparser.util.ocr.OcrProfile;
+import com.telemetryparser.util.ocr.remote.OcrWorkers;
+import java.awt.Rectangle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
-
-import net.sourceforge.tess4j.ITesseract;
-import net.sourceforge.tess4j.Tesseract;
+import java.util.concurrent.ForkJoinPool;
 
 public class TesseractManager
 {
-	private static final String DEFAULT_WHITELIST = "0123456789+-:T.";
-	private static final int poolSize = 128;
+	private static final String DEFAULT_WHITELIST = OcrProfile.CLOCK.whitelist;
+	private static final int maxPoolSize = 128;
 	private static final String dataPath = "tessdata";
 	private static final String language = "eng";
-	private static final ReentrantLock reinitLock = new ReentrantLock();
-	private static final Condition canBorrow = reinitLock.newCondition();
-	private static final Condition canReinit = reinitLock.newCondition();
 	private static final ExecutorService executor = Executors.newSingleThreadExecutor();
-	private static BlockingQueue<ITesseract> pool;
-	private static String whitelist = DEFAULT_WHITELIST;
-	private static int borrowedCount = 0;
-	private static boolean reinitInProgress = false;
+	private static final OcrCache cache = new OcrCache(4096, 1 << 20);
+	private static final Map<OcrProfile, Generation> generations = new ConcurrentHashMap<>();
+	private static String failedWhitelist = null;
 
 	static
 	{
-		initializeManager(poolSize, dataPath, language, whitelist);
+		for (OcrProfile profile : OcrProfile.values())
+		{
+			generations.put(profile, new Generation(profile, 1, profile.whitelist, createPool(profile, profile.whitelist)));
+		}
 	}
 
-	public static void initializeManager(int size, String datapath, String lang, String wl)
+	public record Generation(OcrProfile profile, int version, String whitelist, InstancePool<OcrEngine> pool)
 	{
-		try
+		public String cacheContext()
 		{
-			pool = new ArrayBlockingQueue<>(size);
+			return profile.name() + "/" + whitelist;
+		}
+	}
 
-			for (int i = 0; i < size; i++)
-			{
-				ITesseract tesseract = createTesseractInstance(datapath, lang, wl);
-				pool.put(tesseract);
-			}
+	public static OcrCache cache()
+	{
+		return cache;
+	}
 
-			System.out.println("Tesseract Manager initialized with whitelist: " + wl);
+	public static Generation generation(OcrProfile profile)
+	{
+		return generations.get(profile);
+	}
 
+	public static InstancePool.Stats poolStats(OcrProfile profile)
+	{
+		return generation(profile).pool().stats();
+	}
+
+	public static void warmUp()
+	{
+		if (OcrWorkers.get().isEnabled())
+		{
+			return;
 		}
-		catch (Exception e)
+		for (Generation generation : generations.values())
 		{
-			System.err.println("Tesseract manager failed to initialize: " + e.getMessage());
+			InstancePool<OcrEngine> pool = generation.pool();
+			pool.warmUp(pool.limit(), ForkJoinPool.commonPool());
 		}
 	}
 
-	private static ITesseract createTesseractInstance(String datapath, String lang, String wl)
+	private static InstancePool<OcrEngine> createPool(OcrProfile profile, String wl)
 	{
-		Tesseract tesseract = new Tesseract();
+		System.out.println("Tesseract Manager initialized " + profile.name + " profile with whitelist: " + wl);
+		return new InstancePool<>(() -> createEngine(profile, wl), OcrEngine::close, profile.minPoolSize(), maxPoolSize);
+	}
 
-		tesseract.setVariable("debug_file", "/dev/null");
-		tesseract.setDatapath(datapath);
-		tesseract.setLanguage(lang);
-		tesseract.setPageSegMode(7);
-		tesseract.setOcrEngineMode(1);
+	public static OcrEngine createEngine(OcrProfile profile, String whitelist)
+	{
+		return new OcrEngine(dataPath, language, profile, whitelist);
+	}
 
-		tesseract.setVariable("enable_new_segsearch", "0");
-		tesseract.setVariable("load_system_dawg", "0");
-		tesseract.setVariable("load_freq_dawg", "0");
-		tesseract.setVariable("tessedit_char_whitelist", wl);
+	public static String ocr(OcrProfile profile, BinaryImage image)
+	{
+		if (image == null)
+		{
+			return "";
+		}
+		return run(profile, engine -> engine.recognize(image), "");
+	}
 
-		return tesseract;
+	public static String ocr(OcrProfile profile, ByteBuffer gray, int width, int height, int stride)
+	{
+		List<Rectangle> whole = List.of(new Rectangle(0, 0, width, height));
+		return run(profile, engine -> engine.recognize(gray, width, height, stride, whole).getFirst(), "");
 	}
 
-	private static ITesseract borrow() throws InterruptedException
+	public static <K> Map<K, String> ocr(OcrProfile profile, Map<K, BinaryImage> images)
 	{
-		reinitLock.lock();
-		try
+		Map<K, String> results = new LinkedHashMap<>();
+		if (images.isEmpty())
 		{
-			while (reinitInProgress)
-			{
-				canBorrow.await();
-			}
-
-			ITesseract instance = pool.take();
-			borrowedCount++;
-			return instance;
+			return results;
 		}
-		finally
+
+		List<K> keys = new ArrayList<>(images.keySet());
+		List<BinaryImage> binaries = new ArrayList<>(images.values());
+		List<String> texts = run(profile, engine -> engine.recognize(binaries), List.of());
+		for (int i = 0; i < keys.size(); i++)
 		{
-			reinitLock.unlock();
+			results.put(keys.get(i), i < texts.size() ? texts.get(i) : "");
 		}
+		return results;
 	}
 
-	private static void release(ITesseract tesseract) throws InterruptedException
+	public static <K> CompletableFuture<Map<K, String>> ocrAsync(OcrProfile profile, Map<K, BinaryImage> images, Executor executor)
 	{
-		reinitLock.lock();
-		try
+		OcrWorkers workers = OcrWorkers.get();
+		if (images.isEmpty() || !workers.isEnabled())
 		{
-			pool.put(tesseract);
-			borrowedCount--;
+			return CompletableFuture.supplyAsync(() -> ocr(profile, images), executor);
+		}
 
-			if (reinitInProgress && borrowedCount == 0)
+		List<K> keys = new ArrayList<>(images.keySet());
+		return workers.recognize(profile, generation(profile).whitelist(), new ArrayList<>(images.values()))
+			.thenApplyAsync(texts ->
 			{
-				canReinit.signal();
-			}
-		}
-		finally
-		{
-			reinitLock.unlock();
-		}
+				Map<K, String> results = new LinkedHashMap<>();
+				for (int i = 0; i < keys.size(); i++)
+				{
+					results.put(keys.get(i), i < texts.size() ? texts.get(i) : "");
+				}
+				return results;
+			}, executor)
+			.exceptionallyComposeAsync(e -> CompletableFuture.completedFuture(ocr(profile, images)), executor);
 	}
 
-	public static String ocr(BufferedImage image)
+	private static <R> R run(OcrProfile profile, InstancePool.Action<OcrEngine, R> action, R fallback)
 	{
-		if (image == null)
+		try
 		{
-			return "";
+			return generation(profile).pool().use(action);
 		}
-
-		ITesseract tesseract = null;
-		try
+		catch (InterruptedException e)
 		{
-			tesseract = borrow();
-			return tesseract.doOCR(image).trim();
+			Thread.currentThread().interrupt();
+			return fallback;
 		}
 		catch (Exception e)
 		{
 			System.err.println("Could not do OCR: " + e.getMessage());
-			return "";
-		}
-		finally
-		{
-			if (tesseract != null)
-			{
-				try
-				{
-					release(tesseract);
-				}
-				catch (InterruptedException ie)
-				{
-					System.err.println("Failed to release Tesseract instance");
-					Thread.currentThread().interrupt();
-				}
-			}
+			return fallback;
 		}
 	}
 
@@ -161,37 +175,32 @@ public class TesseractManager
 				return;
 			}
 
-			reinitLock.lock();
-			try
-			{
-				String extended = DEFAULT_WHITELIST + newChars;
+			String extended = DEFAULT_WHITELIST + newChars;
+			Generation retiring = generation(OcrProfile.CLOCK);
 
-				if (extended.equals(whitelist))
-				{
-					return;
-				}
-
-				reinitInProgress = true;
-
-				while (borrowedCount > 0)
-				{
-					canReinit.await();
-				}
-
-				whitelist = extended;
-				initializeManager(poolSize, dataPath, language, whitelist);
-
-				reinitInProgress = false;
-				canBorrow.signalAll();
+			if (extended.equals(retiring.whitelist()) || extended.equals(failedWhitelist))
+			{
+				return;
 			}
-			catch (InterruptedException e)
+
+			InstancePool<OcrEngine> pool = createPool(OcrProfile.CLOCK, extended);
+			try
 			{
-				Thread.currentThread().interrupt();
+				pool.warmUp(retiring.pool().stats().size(), ForkJoinPool.commonPool()).join();
 			}
-			finally
+			catch (RuntimeException e)
 			{
-				reinitLock.unlock();
+				Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+				System.err.println("Could not create " + OcrProfile.CLOCK.name + " engines for whitelist " + extended + ", keeping " + retiring.whitelist() + ": " + cause.getMessage());
+				failedWhitelist = extended;
+				pool.retire();
+				return;
 			}
+			failedWhitelist = null;
+
+			generations.put(OcrProfile.CLOCK, new Generation(OcrProfile.CLOCK, retiring.version() + 1, extended, pool));
+			retiring.pool().retire();
+			cache.invalidate();
 		});
 	}
 
@@ -0,0 +1,246 @@
+package com.telemetryparser.util.image;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+
+public class BinaryImage
+{
+	private final int width;
+	private final int height;
+	private final int wordsPerRow;
+	private final long[] words;
+
+	public BinaryImage(int width, int height)
+	{
+		this.width = width;
+		this.height = height;
+		this.wordsPerRow = (width + 63) >>> 6;
+		this.words = new long[wordsPerRow * height];
+	}
+
+	public static BinaryImage fromImage(BufferedImage image)
+	{
+		PackedRaster raster = PackedRaster.of(image);
+		BinaryImage binary = new BinaryImage(raster.width(), raster.height());
+		int[] data = raster.data();
+		for (int y = 0; y < binary.height; y++)
+		{
+			int src = raster.rowStart(y);
+			int row = y * binary.wordsPerRow;
+			for (int x = 0; x < binary.width; x++)
+			{
+				if ((data[src + x] & 0xFFFFFF) == 0xFFFFFF)
+				{
+					binary.words[row + (x >>> 6)] |= 1L << x;
+				}
+			}
+		}
+		return binary;
+	}
+
+	public int width()
+	{
+		return width;
+	}
+
+	public int height()
+	{
+		return height;
+	}
+
+	public int wordsPerRow()
+	{
+		return wordsPerRow;
+	}
+
+	public long[] words()
+	{
+		return words;
+	}
+
+	public boolean get(int x, int y)
+	{
+		return (words[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+	}
+
+	public void set(int x, int y)
+	{
+		words[y * wordsPerRow + (x >>> 6)] |= 1L << x;
+	}
+
+	public boolean contains(int x, int y)
+	{
+		return x >= 0 && y >= 0 && x < width && y < height;
+	}
+
+	public boolean rowHasAny(int y)
+	{
+		int row = y * wordsPerRow;
+		for (int i = 0; i < wordsPerRow; i++)
+		{
+			if (words[row + i] != 0)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean columnHasAny(int x)
+	{
+		int index = x >>> 6;
+		long mask = 1L << x;
+		for (int y = 0; y < height; y++)
+		{
+			if ((words[y * wordsPerRow + index] & mask) != 0)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public int countRow(int y)
+	{
+		int row = y * wordsPerRow;
+		int count = 0;
+		for (int i = 0; i < wordsPerRow; i++)
+		{
+			count += Long.bitCount(words[row + i]);
+		}
+		return count;
+	}
+
+	public int count()
+	{
+		int count = 0;
+		for (long word : words)
+		{
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	public int firstSetRow()
+	{
+		for (int y = 0; y < height; y++)
+		{
+			if (rowHasAny(y))
+			{
+				return y;
+			}
+		}
+		return -1;
+	}
+
+	public int lastSetRow()
+	{
+		for (int y = height - 1; y >= 0; y--)
+		{
+			if (rowHasAny(y))
+			{
+				return y;
+			}
+		}
+		return -1;
+	}
+
+	public BinaryImage crop(int x, int y, int cropWidth, int cropHeight)
+	{
+		BinaryImage cropped = new BinaryImage(cropWidth, cropHeight);
+		for (int row = 0; row < cropHeight; row++)
+		{
+			for (int column = 0; column < cropWidth; column++)
+			{
+				if (get(x + column, y + row))
+				{
+					cropped.set(column, row);
+				}
+			}
+		}
+		return cropped;
+	}
+
+	public boolean isRangeSet(int y, int fromX, int toX)
+	{
+		int row = y * wordsPerRow;
+		int firstWord = fromX >>> 6;
+		int lastWord = (toX - 1) >>> 6;
+		for (int i = firstWord; i <= lastWord; i++)
+		{
+			long mask = -1L;
+			if (i == firstWord)
+			{
+				mask &= -1L << fromX;
+			}
+			if (i == lastWord)
+			{
+				mask &= -1L >>> (63 - ((toX - 1) & 63));
+			}
+			if ((words[row + i] & mask) != mask)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean isRangeEmpty(int y, int fromX, int toX)
+	{
+		int row = y * wordsPerRow;
+		int firstWord = fromX >>> 6;
+		int lastWord = (toX - 1) >>> 6;
+		for (int i = firstWord; i <= lastWord; i++)
+		{
+			long mask = -1L;
+			if (i == firstWord)
+			{
+				mask &= -1L << fromX;
+			}
+			if (i == lastWord)
+			{
+				mask &= -1L >>> (63 - ((toX - 1) & 63));
+			}
+			if ((words[row + i] & mask) != 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean isWindowSet(int x, int y, int windowWidth, int windowHeight)
+	{
+		if (x < 0 || y < 0 || x + windowWidth > width || y + windowHeight > height)
+		{
+			return false;
+		}
+		for (int row = y; row < y + windowHeight; row++)
+		{
+			if (!isRangeSet(row, x, x + windowWidth))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public BufferedImage toImage()
+	{
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+		byte[] out = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+		for (int y = 0; y < height; y++)
+		{
+			int row = y * wordsPerRow;
+			int dst = y * width;
+			for (int x = 0; x < width; x++)
+			{
+				if ((words[row + (x >>> 6)] & (1L << x)) != 0)
+				{
+					out[dst + x] = (byte) 0xFF;
+				}
+			}
+		}
+		return image;
+	}
+}
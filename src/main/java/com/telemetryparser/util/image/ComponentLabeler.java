@@ -0,0 +1,325 @@
+package com.telemetryparser.util.image;
+
+import java.util.Arrays;
+
+public class ComponentLabeler
+{
+	public enum Connectivity
+	{
+		FOUR,
+		EIGHT
+	}
+
+	private int width;
+	private int height;
+	private int originX;
+	private int originY;
+	private int count;
+	private int[] labels = new int[0];
+	private int[] parent = new int[1];
+	private int[] provisionalArea = new int[1];
+	private long[] provisionalSumX = new long[1];
+	private long[] provisionalSumY = new long[1];
+	private int[] provisionalMinX = new int[1];
+	private int[] provisionalMaxX = new int[1];
+	private int[] provisionalMaxY = new int[1];
+	private int[] area = new int[1];
+	private long[] sumX = new long[1];
+	private long[] sumY = new long[1];
+	private int[] minX = new int[1];
+	private int[] maxX = new int[1];
+	private int[] minY = new int[1];
+	private int[] maxY = new int[1];
+	private int[] first = new int[1];
+	private double[] maxDistanceSquared = new double[1];
+
+	public ComponentLabeler label(BinaryImage mask, Connectivity connectivity)
+	{
+		return label(mask, connectivity, 0, 0);
+	}
+
+	public ComponentLabeler label(BinaryImage mask, Connectivity connectivity, int originX, int originY)
+	{
+		this.width = mask.width();
+		this.height = mask.height();
+		this.originX = originX;
+		this.originY = originY;
+		if (labels.length < width * height)
+		{
+			labels = new int[width * height];
+		}
+
+		int provisional = scan(mask, connectivity == Connectivity.EIGHT);
+		resolve(provisional);
+		relabel();
+		return this;
+	}
+
+	public int width()
+	{
+		return width;
+	}
+
+	public int height()
+	{
+		return height;
+	}
+
+	public int count()
+	{
+		return count;
+	}
+
+	public int[] labels()
+	{
+		return labels;
+	}
+
+	public int labelAt(int x, int y)
+	{
+		return labels[y * width + x];
+	}
+
+	public int area(int label)
+	{
+		return area[label];
+	}
+
+	public double centroidX(int label)
+	{
+		return (double) sumX[label] / area[label];
+	}
+
+	public double centroidY(int label)
+	{
+		return (double) sumY[label] / area[label];
+	}
+
+	public double radius(int label)
+	{
+		return Math.sqrt(maxDistanceSquared[label]);
+	}
+
+	public int minX(int label)
+	{
+		return minX[label];
+	}
+
+	public int maxX(int label)
+	{
+		return maxX[label];
+	}
+
+	public int minY(int label)
+	{
+		return minY[label];
+	}
+
+	public int maxY(int label)
+	{
+		return maxY[label];
+	}
+
+	public int firstIndex(int label)
+	{
+		return first[label];
+	}
+
+	private int scan(BinaryImage mask, boolean diagonals)
+	{
+		int next = 1;
+		for (int y = 0; y < height; y++)
+		{
+			int row = y * width;
+			for (int x = 0; x < width; x++)
+			{
+				if (!mask.get(x, y))
+				{
+					labels[row + x] = 0;
+					continue;
+				}
+
+				int label = 0;
+				if (x > 0)
+				{
+					label = merge(label, labels[row + x - 1]);
+				}
+				if (y > 0)
+				{
+					int above = row - width + x;
+					label = merge(label, labels[above]);
+					if (diagonals)
+					{
+						if (x > 0)
+						{
+							label = merge(label, labels[above - 1]);
+						}
+						if (x < width - 1)
+						{
+							label = merge(label, labels[above + 1]);
+						}
+					}
+				}
+
+				if (label == 0)
+				{
+					label = next++;
+					ensureProvisionalCapacity(label);
+					parent[label] = label;
+					provisionalArea[label] = 0;
+					provisionalSumX[label] = 0;
+					provisionalSumY[label] = 0;
+					provisionalMinX[label] = Integer.MAX_VALUE;
+					provisionalMaxX[label] = Integer.MIN_VALUE;
+				}
+
+				labels[row + x] = label;
+				int px = x + originX;
+				provisionalArea[label]++;
+				provisionalSumX[label] += px;
+				provisionalSumY[label] += y + originY;
+				provisionalMinX[label] = Math.min(provisionalMinX[label], px);
+				provisionalMaxX[label] = Math.max(provisionalMaxX[label], px);
+				provisionalMaxY[label] = y + originY;
+			}
+		}
+		return next;
+	}
+
+	private int merge(int label, int neighbour)
+	{
+		if (neighbour == 0)
+		{
+			return label;
+		}
+		if (label == 0)
+		{
+			return find(neighbour);
+		}
+		int a = find(label);
+		int b = find(neighbour);
+		if (a < b)
+		{
+			parent[b] = a;
+			return a;
+		}
+		parent[a] = b;
+		return b;
+	}
+
+	private int find(int label)
+	{
+		int root = label;
+		while (parent[root] != root)
+		{
+			root = parent[root];
+		}
+		while (parent[label] != root)
+		{
+			int up = parent[label];
+			parent[label] = root;
+			label = up;
+		}
+		return root;
+	}
+
+	private void resolve(int provisional)
+	{
+		count = 0;
+		for (int label = 1; label < provisional; label++)
+		{
+			int root = parent[label];
+			if (root == label)
+			{
+				count++;
+				ensureComponentCapacity(count);
+				area[count] = 0;
+				sumX[count] = 0;
+				sumY[count] = 0;
+				minX[count] = Integer.MAX_VALUE;
+				maxX[count] = Integer.MIN_VALUE;
+				minY[count] = Integer.MAX_VALUE;
+				maxY[count] = Integer.MIN_VALUE;
+				first[count] = -1;
+				maxDistanceSquared[count] = 0;
+				parent[label] = -count;
+			}
+			else
+			{
+				parent[label] = parent[root];
+			}
+
+			int component = -parent[label];
+			area[component] += provisionalArea[label];
+			sumX[component] += provisionalSumX[label];
+			sumY[component] += provisionalSumY[label];
+			minX[component] = Math.min(minX[component], provisionalMinX[label]);
+			maxX[component] = Math.max(maxX[component], provisionalMaxX[label]);
+			maxY[component] = Math.max(maxY[component], provisionalMaxY[label]);
+		}
+	}
+
+	private void relabel()
+	{
+		for (int y = 0; y < height; y++)
+		{
+			int row = y * width;
+			for (int x = 0; x < width; x++)
+			{
+				int provisional = labels[row + x];
+				if (provisional == 0)
+				{
+					continue;
+				}
+
+				int component = -parent[provisional];
+				labels[row + x] = component;
+				if (first[component] < 0)
+				{
+					first[component] = row + x;
+					minY[component] = y + originY;
+				}
+
+				double dx = x + originX - centroidX(component);
+				double dy = y + originY - centroidY(component);
+				double distanceSquared = dx * dx + dy * dy;
+				if (distanceSquared > maxDistanceSquared[component])
+				{
+					maxDistanceSquared[component] = distanceSquared;
+				}
+			}
+		}
+	}
+
+	private void ensureProvisionalCapacity(int label)
+	{
+		if (label >= parent.length)
+		{
+			int size = Math.max(label + 1, parent.length * 2);
+			parent = Arrays.copyOf(parent, size);
+			provisionalArea = Arrays.copyOf(provisionalArea, size);
+			provisionalSumX = Arrays.copyOf(provisionalSumX, size);
+			provisionalSumY = Arrays.copyOf(provisionalSumY, size);
+			provisionalMinX = Arrays.copyOf(provisionalMinX, size);
+			provisionalMaxX = Arrays.copyOf(provisionalMaxX, size);
+			provisionalMaxY = Arrays.copyOf(provisionalMaxY, size);
+		}
+	}
+
+	private void ensureComponentCapacity(int component)
+	{
+		if (component >= area.length)
+		{
+			int size = Math.max(component + 1, area.length * 2);
+			area = Arrays.copyOf(area, size);
+			sumX = Arrays.copyOf(sumX, size);
+			sumY = Arrays.copyOf(sumY, size);
+			minX = Arrays.copyOf(minX, size);
+			maxX = Arrays.copyOf(maxX, size);
+			minY = Arrays.copyOf(minY, size);
+			maxY = Arrays.copyOf(maxY, size);
+			first = Arrays.copyOf(first, size);
+			maxDistanceSquared = Arrays.copyOf(maxDistanceSquared, size);
+		}
+	}
+}
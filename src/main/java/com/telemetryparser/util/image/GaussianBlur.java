@@ -0,0 +1,295 @@
+package com.telemetryparser.util.image;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class GaussianBlur
+{
+	public enum Mode
+	{
+		FIXED_POINT("Fixed Point"),
+		BOX_APPROXIMATION("Box Approximation");
+
+		private final String displayName;
+
+		Mode(String displayName)
+		{
+			this.displayName = displayName;
+		}
+
+		@Override
+		public String toString()
+		{
+			return displayName;
+		}
+	}
+
+	private static final int PRECISION_BITS = 14;
+	private static final int ONE = 1 << PRECISION_BITS;
+	private static final int BOX_PASSES = 3;
+	private static final Map<Double, BlurKernel> kernelCache = new ConcurrentHashMap<>();
+
+	private int[] horizontal = new int[0];
+	private int[] boxScratch = new int[0];
+	private int[] result;
+	private int[] src;
+	private BlurKernel kernel;
+	private Mode mode;
+	private int width;
+	private int height;
+	private int startX;
+	private int endX;
+	private int startY;
+	private int endY;
+
+	public record BlurKernel(int size, int origin, int[] weights, int[] boxSizes)
+	{
+		public int leftMargin()
+		{
+			return size - 1 - origin;
+		}
+
+		public int rightMargin()
+		{
+			return origin;
+		}
+	}
+
+	public static BlurKernel kernelFor(double radius)
+	{
+		return kernelCache.computeIfAbsent(radius, GaussianBlur::createKernel);
+	}
+
+	private static BlurKernel createKernel(double radius)
+	{
+		int size = (int) Math.ceil(radius * 3);
+		if (size < 1)
+		{
+			size = 1;
+		}
+		if (size % 2 == 0)
+		{
+			size++;
+		}
+		int origin = (size - 1) / 2;
+
+		double[] values = new double[size];
+		if (radius <= 0)
+		{
+			values[size / 2] = 1;
+		}
+		else
+		{
+			double sigma = radius / 3.0;
+			double mean = size / 2.0;
+			for (int i = 0; i < size; i++)
+			{
+				double d = i - mean;
+				values[i] = Math.exp(-(d * d) / (2 * sigma * sigma));
+			}
+		}
+
+		double sum = 0;
+		for (double value : values)
+		{
+			sum += value;
+		}
+
+		// ConvolveOp flips the kernel, so weights are stored by source offset from -leftMargin to +rightMargin
+		int[] weights = new int[size];
+		int total = 0;
+		int largest = 0;
+		for (int i = 0; i < size; i++)
+		{
+			int weight = (int) Math.round(values[size - 1 - i] / sum * ONE);
+			weights[i] = weight;
+			total += weight;
+			if (weight > weights[largest])
+			{
+				largest = i;
+			}
+		}
+		weights[largest] += ONE - total;
+
+		return new BlurKernel(size, origin, weights, createBoxSizes(radius / 3.0));
+	}
+
+	private static int[] createBoxSizes(double sigma)
+	{
+		int[] sizes = new int[BOX_PASSES];
+		if (sigma <= 0)
+		{
+			Arrays.fill(sizes, 1);
+			return sizes;
+		}
+
+		double idealWidth = Math.sqrt((12 * sigma * sigma / BOX_PASSES) + 1);
+		int lower = (int) Math.floor(idealWidth);
+		if (lower % 2 == 0)
+		{
+			lower--;
+		}
+		int upper = lower + 2;
+		double idealLower = (12 * sigma * sigma - BOX_PASSES * lower * lower - 4 * BOX_PASSES * lower - 3 * BOX_PASSES) / (-4.0 * lower - 4);
+		long lowerCount = Math.round(idealLower);
+
+		for (int i = 0; i < BOX_PASSES; i++)
+		{
+			sizes[i] = i < lowerCount ? lower : upper;
+		}
+		return sizes;
+	}
+
+	public void blur(GrayPlane source, GrayPlane target, double radius, Mode mode)
+	{
+		prepare(source, radius, mode);
+		target.resize(width, height);
+		int[] dst = target.pixels();
+		for (int y = 0; y < height; y++)
+		{
+			row(y, dst, y * width);
+		}
+	}
+
+	public void prepare(GrayPlane source, double radius, Mode mode)
+	{
+		this.kernel = kernelFor(radius);
+		this.mode = mode;
+		this.src = source.pixels();
+		this.width = source.width();
+		this.height = source.height();
+
+		startX = kernel.leftMargin();
+		endX = width - kernel.rightMargin();
+		startY = kernel.leftMargin();
+		endY = height - kernel.rightMargin();
+		if (startX >= endX || startY >= endY)
+		{
+			startX = endX = startY = endY = 0;
+			return;
+		}
+
+		if (horizontal.length < width * height)
+		{
+			horizontal = new int[width * height];
+		}
+		if (mode == Mode.BOX_APPROXIMATION)
+		{
+			boxBlur();
+		}
+		else
+		{
+			fixedPointHorizontal();
+		}
+	}
+
+	public void row(int y, int[] out, int outOffset)
+	{
+		int rowStart = y * width;
+		if (y < startY || y >= endY)
+		{
+			System.arraycopy(src, rowStart, out, outOffset, width);
+			return;
+		}
+
+		System.arraycopy(src, rowStart, out, outOffset, startX);
+		System.arraycopy(src, rowStart + endX, out, outOffset + endX, width - endX);
+		if (mode == Mode.BOX_APPROXIMATION)
+		{
+			System.arraycopy(result, rowStart + startX, out, outOffset + startX, endX - startX);
+			return;
+		}
+
+		int[] weights = kernel.weights();
+		int size = kernel.size();
+		int base = (y - kernel.leftMargin()) * width;
+		for (int x = startX; x < endX; x++)
+		{
+			long sum = 0;
+			int index = base + x;
+			for (int k = 0; k < size; k++)
+			{
+				sum += (long) weights[k] * horizontal[index];
+				index += width;
+			}
+			out[outOffset + x] = (int) (sum >> (2 * PRECISION_BITS));
+		}
+	}
+
+	private void fixedPointHorizontal()
+	{
+		int[] weights = kernel.weights();
+		int size = kernel.size();
+		int left = kernel.leftMargin();
+
+		for (int y = 0; y < height; y++)
+		{
+			int row = y * width;
+			for (int x = startX; x < endX; x++)
+			{
+				int base = row + x - left;
+				int sum = 0;
+				for (int k = 0; k < size; k++)
+				{
+					sum += weights[k] * src[base + k];
+				}
+				horizontal[row + x] = sum;
+			}
+		}
+	}
+
+	private void boxBlur()
+	{
+		int length = width * height;
+		if (boxScratch.length < length)
+		{
+			boxScratch = new int[length];
+		}
+
+		int[] current = horizontal;
+		System.arraycopy(src, 0, current, 0, length);
+		int[] next = boxScratch;
+		for (int boxSize : kernel.boxSizes())
+		{
+			boxPass(current, next, width, height, boxSize / 2, 1, width);
+			int[] swap = current;
+			current = next;
+			next = swap;
+		}
+		for (int boxSize : kernel.boxSizes())
+		{
+			boxPass(current, next, height, width, boxSize / 2, width, 1);
+			int[] swap = current;
+			current = next;
+			next = swap;
+		}
+		result = current;
+	}
+
+	private static void boxPass(int[] in, int[] out, int lineLength, int lineCount, int half, int step, int lineStep)
+	{
+		int boxSize = 2 * half + 1;
+		for (int line = 0; line < lineCount; line++)
+		{
+			int base = line * lineStep;
+			int first = in[base];
+			int last = in[base + (lineLength - 1) * step];
+
+			int sum = (half + 1) * first;
+			for (int i = 0; i < half; i++)
+			{
+				sum += in[base + Math.min(i, lineLength - 1) * step];
+			}
+
+			for (int i = 0; i < lineLength; i++)
+			{
+				int entering = i + half;
+				int leaving = i - half - 1;
+				sum += entering < lineLength ? in[base + entering * step] : last;
+				sum -= leaving >= 0 ? in[base + leaving * step] : first;
+				out[base + i * step] = (sum + half) / boxSize;
+			}
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.telemetryparser.util.image;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+public class GrayPlane
+{
+	private int width;
+	private int height;
+	private int[] pixels = new int[0];
+
+	public GrayPlane resize(int width, int height)
+	{
+		this.width = width;
+		this.height = height;
+		if (pixels.length < width * height)
+		{
+			pixels = new int[width * height];
+		}
+		return this;
+	}
+
+	public GrayPlane load(BufferedImage image)
+	{
+		return load(PackedRaster.of(image));
+	}
+
+	public GrayPlane load(PackedRaster raster)
+	{
+		return load(raster, 0);
+	}
+
+	public GrayPlane load(PackedRaster raster, int shift)
+	{
+		resize(raster.width(), raster.height());
+		int[] data = raster.data();
+		PixelKernels kernels = PixelKernels.get();
+		for (int y = 0; y < height; y++)
+		{
+			kernels.extractChannel(data, raster.rowStart(y), pixels, y * width, width, shift);
+		}
+		return this;
+	}
+
+	public int width()
+	{
+		return width;
+	}
+
+	public int height()
+	{
+		return height;
+	}
+
+	public int[] pixels()
+	{
+		return pixels;
+	}
+
+	public int get(int x, int y)
+	{
+		return pixels[y * width + x];
+	}
+
+	public BufferedImage toImage()
+	{
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		int[] out = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		for (int i = 0; i < width * height; i++)
+		{
+			int value = pixels[i];
+			out[i] = (value << 16) | (value << 8) | value;
+		}
+		return image;
+	}
+}
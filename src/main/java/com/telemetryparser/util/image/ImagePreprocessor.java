@@ -0,0 +1,87 @@
+package com.telemetryparser.util.image;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+public class ImagePreprocessor
+{
+	private static final ThreadLocal<ImagePreprocessor> threadInstance = ThreadLocal.withInitial(ImagePreprocessor::new);
+	private final GrayPlane source = new GrayPlane();
+	private final GaussianBlur gaussianBlur = new GaussianBlur();
+	private int[] row = new int[0];
+
+	public static ImagePreprocessor forCurrentThread()
+	{
+		return threadInstance.get();
+	}
+
+	public BinaryImage binarize(BufferedImage image, double radius, GaussianBlur.Mode blurMode, double amount, int unsharpThreshold, int bwThreshold)
+	{
+		source.load(image);
+		gaussianBlur.prepare(source, radius, blurMode);
+
+		int width = source.width();
+		int height = source.height();
+		int[] src = source.pixels();
+		int[] blurred = rowBuffer(width);
+
+		PixelKernels kernels = PixelKernels.get();
+		BinaryImage output = new BinaryImage(width, height);
+		long[] words = output.words();
+		for (int y = 0; y < height; y++)
+		{
+			gaussianBlur.row(y, blurred, 0);
+			kernels.sharpenThreshold(src, y * width, blurred, 0, words, y * output.wordsPerRow(), width, amount, unsharpThreshold, bwThreshold);
+		}
+		return output;
+	}
+
+	public GrayPlane sharpen(BufferedImage image, double radius, GaussianBlur.Mode blurMode, double amount, int unsharpThreshold)
+	{
+		source.load(image);
+		gaussianBlur.prepare(source, radius, blurMode);
+
+		int width = source.width();
+		int[] src = source.pixels();
+		int[] blurred = rowBuffer(width);
+		PixelKernels kernels = PixelKernels.get();
+		for (int y = 0; y < source.height(); y++)
+		{
+			gaussianBlur.row(y, blurred, 0);
+			kernels.sharpen(src, y * width, blurred, 0, src, y * width, width, amount, unsharpThreshold);
+		}
+		return source;
+	}
+
+	private int[] rowBuffer(int width)
+	{
+		if (row.length < width)
+		{
+			row = new int[width];
+		}
+		return row;
+	}
+
+	public static int sharpen(int src, int blur, double amount, int unsharpThreshold)
+	{
+		return ScalarPixelKernels.sharpen(src, blur, amount, unsharpThreshold);
+	}
+
+	public static BufferedImage threshold(BufferedImage image, int threshold)
+	{
+		PackedRaster raster = PackedRaster.of(image);
+		int width = raster.width();
+		int height = raster.height();
+		int[] data = raster.data();
+
+		BufferedImage output = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		int[] out = ((DataBufferInt) output.getRaster().getDataBuffer()).getData();
+		PixelKernels kernels = PixelKernels.get();
+		for (int y = 0; y < height; y++)
+		{
+			kernels.threshold(data, raster.rowStart(y), out, y * width, width, threshold);
+		}
+		return output;
+	}
+
+}
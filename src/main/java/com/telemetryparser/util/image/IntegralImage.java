@@ -0,0 +1,122 @@
+package com.telemetryparser.util.image;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+public class IntegralImage
+{
+	private int width;
+	private int height;
+	private int stride;
+	private int[] table = new int[0];
+
+	public static IntegralImage of(BinaryImage image)
+	{
+		return new IntegralImage().load(image);
+	}
+
+	public IntegralImage load(BinaryImage image)
+	{
+		width = image.width();
+		height = image.height();
+		stride = width + 1;
+		if (table.length < stride * (height + 1))
+		{
+			table = new int[stride * (height + 1)];
+		}
+		Arrays.fill(table, 0, stride, 0);
+
+		long[] words = image.words();
+		for (int y = 0; y < height; y++)
+		{
+			int above = y * stride;
+			int row = above + stride;
+			int wordStart = y * image.wordsPerRow();
+			int rowSum = 0;
+			table[row] = 0;
+			for (int x = 0; x < width; x++)
+			{
+				rowSum += (int) (words[wordStart + (x >>> 6)] >>> x) & 1;
+				table[row + x + 1] = table[above + x + 1] + rowSum;
+			}
+		}
+		return this;
+	}
+
+	public int width()
+	{
+		return width;
+	}
+
+	public int height()
+	{
+		return height;
+	}
+
+	public int count(int x, int y, int w, int h)
+	{
+		int top = y * stride;
+		int bottom = (y + h) * stride;
+		return table[bottom + x + w] - table[bottom + x] - table[top + x + w] + table[top + x];
+	}
+
+	public int count(int x, int y, int w, int h, boolean set)
+	{
+		int count = count(x, y, w, h);
+		return set ? count : w * h - count;
+	}
+
+	public boolean isFull(int x, int y, int w, int h)
+	{
+		return count(x, y, w, h) == w * h;
+	}
+
+	public boolean isEmpty(int x, int y, int w, int h)
+	{
+		return count(x, y, w, h) == 0;
+	}
+
+	public boolean containsFullWindow(int size)
+	{
+		for (int y = 0; y <= height - size; y++)
+		{
+			for (int x = 0; x <= width - size; x++)
+			{
+				if (isFull(x, y, size, size))
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	public Rectangle bounds(boolean set)
+	{
+		int minX = 0;
+		while (minX < width && count(minX, 0, 1, height, set) == 0)
+		{
+			minX++;
+		}
+		if (minX == width)
+		{
+			return null;
+		}
+		int maxX = width - 1;
+		while (count(maxX, 0, 1, height, set) == 0)
+		{
+			maxX--;
+		}
+		int minY = 0;
+		while (count(0, minY, width, 1, set) == 0)
+		{
+			minY++;
+		}
+		int maxY = height - 1;
+		while (count(0, maxY, width, 1, set) == 0)
+		{
+			maxY--;
+		}
+		return new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1);
+	}
+}
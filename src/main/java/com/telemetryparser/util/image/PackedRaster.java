@@ -0,0 +1,38 @@
+package com.telemetryparser.util.image;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+
+public record PackedRaster(int[] data, int offset, int stride, int width, int height)
+{
+	public static PackedRaster of(BufferedImage image)
+	{
+		int type = image.getType();
+		WritableRaster raster = image.getRaster();
+		if ((type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB)
+			&& raster.getDataBuffer() instanceof DataBufferInt buffer
+			&& raster.getSampleModel() instanceof SinglePixelPackedSampleModel sampleModel)
+		{
+			int stride = sampleModel.getScanlineStride();
+			int offset = buffer.getOffset() - raster.getSampleModelTranslateY() * stride - raster.getSampleModelTranslateX();
+			return new PackedRaster(buffer.getData(), offset, stride, image.getWidth(), image.getHeight());
+		}
+
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int[] data = image.getRGB(0, 0, width, height, null, 0, width);
+		return new PackedRaster(data, 0, width, width, height);
+	}
+
+	public int rowStart(int y)
+	{
+		return offset + y * stride;
+	}
+
+	public int rgb(int x, int y)
+	{
+		return data[offset + y * stride + x];
+	}
+}
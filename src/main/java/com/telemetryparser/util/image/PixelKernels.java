@@ -0,0 +1,53 @@
+package com.telemetryparser.util.image;
+
+public interface PixelKernels
+{
+	String name();
+
+	void extractChannel(int[] src, int srcOffset, int[] dst, int dstOffset, int length, int shift);
+
+	void sharpen(int[] src, int srcOffset, int[] blur, int blurOffset, int[] dst, int dstOffset, int length, double amount, int unsharpThreshold);
+
+	void sharpenThreshold(int[] src, int srcOffset, int[] blur, int blurOffset, long[] words, int wordOffset, int length, double amount, int unsharpThreshold, int bwThreshold);
+
+	void threshold(int[] src, int srcOffset, int[] dst, int dstOffset, int length, int threshold);
+
+	void accumulateChannels(int[] src, int srcOffset, int length, int[] red, int[] green, int[] blue);
+
+	static PixelKernels get()
+	{
+		return Holder.INSTANCE;
+	}
+
+	static PixelKernels scalar()
+	{
+		return Holder.SCALAR;
+	}
+
+	final class Holder
+	{
+		private static final PixelKernels SCALAR = new ScalarPixelKernels();
+		private static final PixelKernels INSTANCE = load();
+
+		private Holder()
+		{
+		}
+
+		private static PixelKernels load()
+		{
+			if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+			{
+				return SCALAR;
+			}
+			try
+			{
+				return (PixelKernels) Class.forName("com.telemetryparser.util.image.VectorPixelKernels").getDeclaredConstructor().newInstance();
+			}
+			catch (ReflectiveOperationException | LinkageError e)
+			{
+				System.err.println("Vector kernels unavailable, using scalar fallback: " + e);
+				return SCALAR;
+			}
+		}
+	}
+}
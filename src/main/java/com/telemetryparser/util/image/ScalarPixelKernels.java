@@ -0,0 +1,76 @@
+package com.telemetryparser.util.image;
+
+class ScalarPixelKernels implements PixelKernels
+{
+	@Override
+	public String name()
+	{
+		return "Scalar";
+	}
+
+	@Override
+	public void extractChannel(int[] src, int srcOffset, int[] dst, int dstOffset, int length, int shift)
+	{
+		for (int i = 0; i < length; i++)
+		{
+			dst[dstOffset + i] = (src[srcOffset + i] >> shift) & 0xFF;
+		}
+	}
+
+	@Override
+	public void sharpen(int[] src, int srcOffset, int[] blur, int blurOffset, int[] dst, int dstOffset, int length, double amount, int unsharpThreshold)
+	{
+		for (int i = 0; i < length; i++)
+		{
+			dst[dstOffset + i] = sharpen(src[srcOffset + i], blur[blurOffset + i], amount, unsharpThreshold);
+		}
+	}
+
+	@Override
+	public void sharpenThreshold(int[] src, int srcOffset, int[] blur, int blurOffset, long[] words, int wordOffset, int length, double amount, int unsharpThreshold, int bwThreshold)
+	{
+		for (int i = 0; i < length; i++)
+		{
+			if (sharpen(src[srcOffset + i], blur[blurOffset + i], amount, unsharpThreshold) > bwThreshold)
+			{
+				words[wordOffset + (i >>> 6)] |= 1L << i;
+			}
+		}
+	}
+
+	@Override
+	public void threshold(int[] src, int srcOffset, int[] dst, int dstOffset, int length, int threshold)
+	{
+		for (int i = 0; i < length; i++)
+		{
+			int rgb = src[srcOffset + i];
+			int r = (rgb >> 16) & 0xFF;
+			int g = (rgb >> 8) & 0xFF;
+			int b = rgb & 0xFF;
+			dst[dstOffset + i] = (r > threshold && g > threshold && b > threshold) ? 0xFFFFFF : 0;
+		}
+	}
+
+	@Override
+	public void accumulateChannels(int[] src, int srcOffset, int length, int[] red, int[] green, int[] blue)
+	{
+		for (int i = 0; i < length; i++)
+		{
+			int rgb = src[srcOffset + i];
+			red[i] += (rgb >> 16) & 0xFF;
+			green[i] += (rgb >> 8) & 0xFF;
+			blue[i] += rgb & 0xFF;
+		}
+	}
+
+	static int sharpen(int src, int blur, double amount, int unsharpThreshold)
+	{
+		int diff = src - blur;
+		if (Math.abs(diff) < unsharpThreshold)
+		{
+			diff = 0;
+		}
+		int value = (int) Math.round(src + (amount * diff));
+		return Math.min(255, Math.max(0, value));
+	}
+}
@@ -0,0 +1,120 @@
+package com.telemetryparser.util.image;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+class VectorPixelKernels extends ScalarPixelKernels
+{
+	private static final VectorSpecies<Integer> INT = IntVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Double> DOUBLE = DoubleVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Integer> DOUBLE_INT = VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLE.vectorBitSize() / 2));
+
+	@Override
+	public String name()
+	{
+		return "Vector API (" + INT.vectorBitSize() + "-bit)";
+	}
+
+	@Override
+	public void extractChannel(int[] src, int srcOffset, int[] dst, int dstOffset, int length, int shift)
+	{
+		int bound = INT.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += INT.length())
+		{
+			IntVector.fromArray(INT, src, srcOffset + i)
+				.lanewise(VectorOperators.ASHR, shift)
+				.and(0xFF)
+				.intoArray(dst, dstOffset + i);
+		}
+		super.extractChannel(src, srcOffset + i, dst, dstOffset + i, length - i, shift);
+	}
+
+	@Override
+	public void sharpen(int[] src, int srcOffset, int[] blur, int blurOffset, int[] dst, int dstOffset, int length, double amount, int unsharpThreshold)
+	{
+		int bound = DOUBLE_INT.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += DOUBLE_INT.length())
+		{
+			sharpen(src, srcOffset + i, blur, blurOffset + i, amount, unsharpThreshold).intoArray(dst, dstOffset + i);
+		}
+		super.sharpen(src, srcOffset + i, blur, blurOffset + i, dst, dstOffset + i, length - i, amount, unsharpThreshold);
+	}
+
+	@Override
+	public void sharpenThreshold(int[] src, int srcOffset, int[] blur, int blurOffset, long[] words, int wordOffset, int length, double amount, int unsharpThreshold, int bwThreshold)
+	{
+		int bound = DOUBLE_INT.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += DOUBLE_INT.length())
+		{
+			long bits = sharpen(src, srcOffset + i, blur, blurOffset + i, amount, unsharpThreshold)
+				.compare(VectorOperators.GT, bwThreshold)
+				.toLong();
+			words[wordOffset + (i >>> 6)] |= bits << i;
+		}
+		for (; i < length; i++)
+		{
+			if (sharpen(src[srcOffset + i], blur[blurOffset + i], amount, unsharpThreshold) > bwThreshold)
+			{
+				words[wordOffset + (i >>> 6)] |= 1L << i;
+			}
+		}
+	}
+
+	@Override
+	public void threshold(int[] src, int srcOffset, int[] dst, int dstOffset, int length, int threshold)
+	{
+		int bound = INT.loopBound(length);
+		int i = 0;
+		IntVector white = IntVector.broadcast(INT, 0xFFFFFF);
+		for (; i < bound; i += INT.length())
+		{
+			IntVector rgb = IntVector.fromArray(INT, src, srcOffset + i);
+			VectorMask<Integer> mask = rgb.lanewise(VectorOperators.LSHR, 16).and(0xFF).compare(VectorOperators.GT, threshold)
+				.and(rgb.lanewise(VectorOperators.LSHR, 8).and(0xFF).compare(VectorOperators.GT, threshold))
+				.and(rgb.and(0xFF).compare(VectorOperators.GT, threshold));
+			IntVector.zero(INT).blend(white, mask).intoArray(dst, dstOffset + i);
+		}
+		super.threshold(src, srcOffset + i, dst, dstOffset + i, length - i, threshold);
+	}
+
+	@Override
+	public void accumulateChannels(int[] src, int srcOffset, int length, int[] red, int[] green, int[] blue)
+	{
+		int bound = INT.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += INT.length())
+		{
+			IntVector rgb = IntVector.fromArray(INT, src, srcOffset + i);
+			IntVector.fromArray(INT, red, i).add(rgb.lanewise(VectorOperators.LSHR, 16).and(0xFF)).intoArray(red, i);
+			IntVector.fromArray(INT, green, i).add(rgb.lanewise(VectorOperators.LSHR, 8).and(0xFF)).intoArray(green, i);
+			IntVector.fromArray(INT, blue, i).add(rgb.and(0xFF)).intoArray(blue, i);
+		}
+		for (; i < length; i++)
+		{
+			int rgb = src[srcOffset + i];
+			red[i] += (rgb >> 16) & 0xFF;
+			green[i] += (rgb >> 8) & 0xFF;
+			blue[i] += rgb & 0xFF;
+		}
+	}
+
+	private static IntVector sharpen(int[] src, int srcOffset, int[] blur, int blurOffset, double amount, int unsharpThreshold)
+	{
+		IntVector s = IntVector.fromArray(DOUBLE_INT, src, srcOffset);
+		IntVector diff = s.sub(IntVector.fromArray(DOUBLE_INT, blur, blurOffset));
+		diff = diff.blend(0, diff.abs().compare(VectorOperators.LT, unsharpThreshold));
+
+		DoubleVector value = ((DoubleVector) diff.convertShape(VectorOperators.I2D, DOUBLE, 0))
+			.mul(amount)
+			.add((DoubleVector) s.convertShape(VectorOperators.I2D, DOUBLE, 0))
+			.add(0.5);
+		return ((IntVector) value.convertShape(VectorOperators.D2I, DOUBLE_INT, 0)).max(0).min(255);
+	}
+}
@@ -0,0 +1,130 @@
+package com.telemetryparser.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 40;
+	private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+	private volatile long startedNanos = System.nanoTime();
+
+	public record Snapshot(long count, double meanMillis, double p50Millis, double p99Millis, double maxMillis, double perSecond)
+	{
+	}
+
+	public void record(long nanos)
+	{
+		long value = Math.max(0, nanos);
+		buckets.incrementAndGet(bucketOf(value));
+		count.increment();
+		total.add(value);
+		if (value > max.get())
+		{
+			max.accumulateAndGet(value, Math::max);
+		}
+	}
+
+	public long recordSince(long startNanos)
+	{
+		long now = System.nanoTime();
+		record(now - startNanos);
+		return now;
+	}
+
+	static int bucketOf(long value)
+	{
+		if (value < SUB_BUCKETS)
+		{
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		if (exponent > MAX_EXPONENT)
+		{
+			return BUCKETS - 1;
+		}
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long upperBoundOf(int bucket)
+	{
+		if (bucket < SUB_BUCKETS)
+		{
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		int subBucket = bucket % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return (SUB_BUCKETS + subBucket) * width + width - 1;
+	}
+
+	public long percentileNanos(double quantile)
+	{
+		long[] counts = new long[BUCKETS];
+		long recorded = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			counts[i] = buckets.get(i);
+			recorded += counts[i];
+		}
+		if (recorded == 0)
+		{
+			return 0;
+		}
+
+		long target = Math.max(1, (long) Math.ceil(quantile * recorded));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += counts[i];
+			if (seen >= target)
+			{
+				return Math.min(upperBoundOf(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	public long count()
+	{
+		return count.sum();
+	}
+
+	public long maxNanos()
+	{
+		return max.get();
+	}
+
+	public Snapshot snapshot()
+	{
+		long recorded = count.sum();
+		double seconds = (System.nanoTime() - startedNanos) / 1e9;
+		return new Snapshot(recorded,
+			recorded == 0 ? 0 : total.sum() / 1e6 / recorded,
+			percentileNanos(0.5) / 1e6,
+			percentileNanos(0.99) / 1e6,
+			max.get() / 1e6,
+			seconds > 0 ? recorded / seconds : 0);
+	}
+
+	public void reset()
+	{
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			buckets.set(i, 0);
+		}
+		count.reset();
+		total.reset();
+		max.set(0);
+		startedNanos = System.nanoTime();
+	}
+}
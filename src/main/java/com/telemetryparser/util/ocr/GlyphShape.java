@@ -0,0 +1,126 @@
+package com.telemetryparser.util.ocr;
+
+import com.telemetryparser.util.image.BinaryImage;
+import java.util.ArrayList;
+import java.util.List;
+
+public record GlyphShape(long low, long high, float top, float bottom, float aspect)
+{
+	private static final int GRID_WIDTH = 8;
+	private static final int GRID_HEIGHT = 12;
+	private static final int BITS = GRID_WIDTH * GRID_HEIGHT;
+	private static final float POSITION_TOLERANCE = 0.2f;
+	private static final float ASPECT_TOLERANCE = 0.7f;
+
+	public static List<GlyphShape> segment(BinaryImage image)
+	{
+		List<GlyphShape> glyphs = new ArrayList<>();
+		int lineTop = image.firstSetRow();
+		if (lineTop < 0)
+		{
+			return glyphs;
+		}
+		int lineBottom = image.lastSetRow();
+		float lineHeight = lineBottom - lineTop + 1;
+
+		int x = 0;
+		while (x < image.width())
+		{
+			if (!image.columnHasAny(x))
+			{
+				x++;
+				continue;
+			}
+			int start = x;
+			while (x < image.width() && image.columnHasAny(x))
+			{
+				x++;
+			}
+
+			int top = lineTop;
+			while (image.isRangeEmpty(top, start, x))
+			{
+				top++;
+			}
+			int bottom = lineBottom;
+			while (image.isRangeEmpty(bottom, start, x))
+			{
+				bottom--;
+			}
+			glyphs.add(fromCell(image, start, top, x - start, bottom - top + 1, (top - lineTop) / lineHeight, (bottom + 1 - lineTop) / lineHeight));
+		}
+		return glyphs;
+	}
+
+	private static GlyphShape fromCell(BinaryImage image, int left, int top, int width, int height, float relativeTop, float relativeBottom)
+	{
+		long low = 0;
+		long high = 0;
+		for (int gy = 0; gy < GRID_HEIGHT; gy++)
+		{
+			int y0 = top + gy * height / GRID_HEIGHT;
+			int y1 = Math.max(y0 + 1, top + (gy + 1) * height / GRID_HEIGHT);
+			for (int gx = 0; gx < GRID_WIDTH; gx++)
+			{
+				int x0 = left + gx * width / GRID_WIDTH;
+				int x1 = Math.max(x0 + 1, left + (gx + 1) * width / GRID_WIDTH);
+
+				int count = 0;
+				for (int y = y0; y < y1; y++)
+				{
+					for (int x = x0; x < x1; x++)
+					{
+						if (image.get(x, y))
+						{
+							count++;
+						}
+					}
+				}
+
+				if (count * 2 >= (y1 - y0) * (x1 - x0))
+				{
+					int bit = gy * GRID_WIDTH + gx;
+					if (bit < 64)
+					{
+						low |= 1L << bit;
+					}
+					else
+					{
+						high |= 1L << (bit - 64);
+					}
+				}
+			}
+		}
+		return new GlyphShape(low, high, relativeTop, relativeBottom, (float) width / height);
+	}
+
+	public double similarity(GlyphShape other)
+	{
+		if (Math.abs(top - other.top) > POSITION_TOLERANCE || Math.abs(bottom - other.bottom) > POSITION_TOLERANCE)
+		{
+			return 0;
+		}
+		float aspectRatio = aspect / other.aspect;
+		if (aspectRatio < ASPECT_TOLERANCE || aspectRatio > 1 / ASPECT_TOLERANCE)
+		{
+			return 0;
+		}
+		int distance = Long.bitCount(low ^ other.low) + Long.bitCount(high ^ other.high);
+		return 1 - (double) distance / BITS;
+	}
+
+	public String encode()
+	{
+		return Long.toHexString(low) + "," + Long.toHexString(high) + "," + top + "," + bottom + "," + aspect;
+	}
+
+	public static GlyphShape decode(String value)
+	{
+		String[] split = value.split(",", -1);
+		if (split.length != 5)
+		{
+			throw new IllegalArgumentException("Expected 5 Arguments. Found " + split.length + ".");
+		}
+		return new GlyphShape(Long.parseUnsignedLong(split[0], 16), Long.parseUnsignedLong(split[1], 16), Float.parseFloat(split[2]), Float.parseFloat(split[3]), Float.parseFloat(split[4]));
+	}
+}
@@ -0,0 +1,179 @@
+package com.telemetryparser.util.ocr;
+
+import com.telemetryparser.settings.Settings;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class GlyphTemplates
+{
+	public static final String ALPHABET = "0123456789+-:T.";
+	private static final double MATCH_SIMILARITY = 0.9;
+	private static final double MATCH_MARGIN = 0.04;
+	private static final double SAME_SHAPE_SIMILARITY = 0.97;
+	private static final int CONFIRMATIONS = 3;
+	private static final int MAX_TEMPLATES_PER_GLYPH = 6;
+	private static final int MAX_CANDIDATES = 256;
+	private static final ExecutorService persistExecutor = Executors.newSingleThreadExecutor(runnable ->
+	{
+		Thread thread = new Thread(runnable, "GlyphTemplatePersist");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final String preset;
+	private final List<Template> templates = new CopyOnWriteArrayList<>();
+	private final List<Candidate> candidates = new ArrayList<>();
+
+	public GlyphTemplates(String preset)
+	{
+		this.preset = preset;
+	}
+
+	public static GlyphTemplates load(String preset)
+	{
+		GlyphTemplates glyphTemplates = new GlyphTemplates(preset);
+		int index = 0;
+		String value;
+		while ((value = Settings.getProperty(preset, "glyph." + index)) != null)
+		{
+			try
+			{
+				glyphTemplates.templates.add(new Template(value.charAt(0), GlyphShape.decode(value.substring(2))));
+			}
+			catch (Exception e)
+			{
+				System.err.println("Could not load glyph template " + index + ": " + e.getMessage());
+			}
+			index++;
+		}
+		return glyphTemplates;
+	}
+
+	public int size()
+	{
+		return templates.size();
+	}
+
+	public String recognize(List<GlyphShape> glyphs)
+	{
+		StringBuilder text = new StringBuilder(glyphs.size());
+		for (GlyphShape glyph : glyphs)
+		{
+			char bestSymbol = 0;
+			double best = 0;
+			double runnerUp = 0;
+			for (Template template : templates)
+			{
+				double similarity = template.shape().similarity(glyph);
+				if (similarity > best)
+				{
+					if (template.symbol() != bestSymbol)
+					{
+						runnerUp = best;
+						bestSymbol = template.symbol();
+					}
+					best = similarity;
+				}
+				else if (template.symbol() != bestSymbol && similarity > runnerUp)
+				{
+					runnerUp = similarity;
+				}
+			}
+
+			if (best < MATCH_SIMILARITY || best - runnerUp < MATCH_MARGIN)
+			{
+				return null;
+			}
+			text.append(bestSymbol);
+		}
+		return text.toString();
+	}
+
+	public void learn(List<GlyphShape> glyphs, String text)
+	{
+		String symbols = text.replaceAll("\\s", "");
+		if (symbols.length() != glyphs.size())
+		{
+			return;
+		}
+		for (int i = 0; i < symbols.length(); i++)
+		{
+			if (ALPHABET.indexOf(symbols.charAt(i)) < 0)
+			{
+				return;
+			}
+		}
+
+		for (int i = 0; i < symbols.length(); i++)
+		{
+			confirm(symbols.charAt(i), glyphs.get(i));
+		}
+	}
+
+	private synchronized void confirm(char symbol, GlyphShape glyph)
+	{
+		int known = 0;
+		for (Template template : templates)
+		{
+			if (template.symbol() == symbol)
+			{
+				if (template.shape().similarity(glyph) >= SAME_SHAPE_SIMILARITY)
+				{
+					return;
+				}
+				known++;
+			}
+		}
+		if (known >= MAX_TEMPLATES_PER_GLYPH)
+		{
+			return;
+		}
+
+		for (Candidate candidate : candidates)
+		{
+			if (candidate.symbol == symbol && candidate.shape.similarity(glyph) >= SAME_SHAPE_SIMILARITY)
+			{
+				candidate.hits++;
+				if (candidate.hits >= CONFIRMATIONS)
+				{
+					candidates.remove(candidate);
+					promote(new Template(symbol, candidate.shape));
+				}
+				return;
+			}
+		}
+		if (candidates.size() >= MAX_CANDIDATES)
+		{
+			candidates.removeFirst();
+		}
+		candidates.add(new Candidate(symbol, glyph));
+	}
+
+	private void promote(Template template)
+	{
+		int index = templates.size();
+		templates.add(template);
+		if (preset != null)
+		{
+			persistExecutor.submit(() -> Settings.setProperty(preset, "glyph." + index, template.symbol() + "," + template.shape().encode()));
+		}
+	}
+
+	private record Template(char symbol, GlyphShape shape) {}
+
+	private static class Candidate
+	{
+		final char symbol;
+		final GlyphShape shape;
+		int hits = 1;
+
+		Candidate(char symbol, GlyphShape shape)
+		{
+			this.symbol = symbol;
+			this.shape = shape;
+		}
+	}
+}
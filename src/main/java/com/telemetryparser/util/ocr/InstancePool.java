@@ -0,0 +1,274 @@
+package com.telemetryparser.util.ocr;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class InstancePool<T>
+{
+	private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+	private static final boolean cpuTimeSupported = threads.isCurrentThreadCpuTimeSupported();
+	private static final long SIZING_SAMPLE_NANOS = 250_000_000L;
+	private static final long CREATE_RETRY_MILLIS = 50;
+
+	private final Supplier<T> factory;
+	private final Consumer<T> disposer;
+	private final int minSize;
+	private final int maxSize;
+	private final Object[] instances;
+	private final AtomicReferenceArray<T> idle;
+	private final AtomicIntegerArray reserved;
+	private final Semaphore available = new Semaphore(0);
+	private final AtomicInteger created = new AtomicInteger();
+	private final AtomicInteger inUse = new AtomicInteger();
+	private final ThreadLocal<int[]> affinity = ThreadLocal.withInitial(() -> new int[1]);
+	private final LongAdder borrows = new LongAdder();
+	private final LongAdder waits = new LongAdder();
+	private final LongAdder waitNanos = new LongAdder();
+	private final LongAdder busyNanos = new LongAdder();
+	private final LongAdder cpuNanos = new LongAdder();
+	private final long startNanos = System.nanoTime();
+	private volatile boolean retired;
+
+	public InstancePool(Supplier<T> factory, int minSize, int maxSize)
+	{
+		this(factory, instance -> {}, minSize, maxSize);
+	}
+
+	public InstancePool(Supplier<T> factory, Consumer<T> disposer, int minSize, int maxSize)
+	{
+		this.factory = factory;
+		this.disposer = disposer;
+		this.minSize = Math.max(1, Math.min(minSize, maxSize));
+		this.maxSize = maxSize;
+		this.instances = new Object[maxSize];
+		this.idle = new AtomicReferenceArray<>(maxSize);
+		this.reserved = new AtomicIntegerArray(maxSize);
+	}
+
+	public static int defaultMinSize()
+	{
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	@FunctionalInterface
+	public interface Action<T, R>
+	{
+		R apply(T instance) throws Exception;
+	}
+
+	public record Stats(int size, int limit, int inUse, long borrows, long waits, long waitNanos, double utilization)
+	{
+		public double meanWaitMillis()
+		{
+			return waits == 0 ? 0 : waitNanos / 1e6 / waits;
+		}
+	}
+
+	public <R> R use(Action<T, R> action) throws Exception
+	{
+		int slot = acquire();
+		long wallStart = System.nanoTime();
+		long cpuStart = cpuTimeSupported ? threads.getCurrentThreadCpuTime() : 0;
+		@SuppressWarnings("unchecked")
+		T instance = slot < 0 ? null : (T) instances[slot];
+		try
+		{
+			if (instance == null)
+			{
+				instance = factory.get();
+			}
+			return action.apply(instance);
+		}
+		finally
+		{
+			if (slot < 0 && instance != null)
+			{
+				disposer.accept(instance);
+			}
+			busyNanos.add(System.nanoTime() - wallStart);
+			if (cpuTimeSupported)
+			{
+				cpuNanos.add(threads.getCurrentThreadCpuTime() - cpuStart);
+			}
+			release(slot);
+		}
+	}
+
+	public CompletableFuture<Void> warmUp(int count, Executor executor)
+	{
+		CompletableFuture<?>[] tasks = new CompletableFuture<?>[count];
+		for (int i = 0; i < count; i++)
+		{
+			tasks[i] = CompletableFuture.runAsync(() ->
+			{
+				int slot = create();
+				if (slot >= 0)
+				{
+					release(slot);
+				}
+			}, executor);
+		}
+		return CompletableFuture.allOf(tasks);
+	}
+
+	public void retire()
+	{
+		retired = true;
+		for (int slot = 0; slot < instances.length; slot++)
+		{
+			T instance = idle.getAndSet(slot, null);
+			if (instance != null)
+			{
+				instances[slot] = null;
+				disposer.accept(instance);
+			}
+		}
+		available.release(Integer.MAX_VALUE / 2);
+	}
+
+	public boolean isRetired()
+	{
+		return retired;
+	}
+
+	public int limit()
+	{
+		long cpu = cpuNanos.sum();
+		long busy = busyNanos.sum();
+		if (!cpuTimeSupported || busy < SIZING_SAMPLE_NANOS || cpu <= 0 || busy <= cpu)
+		{
+			return minSize;
+		}
+		long sized = (long) Math.ceil(minSize * (double) busy / cpu);
+		return (int) Math.min(maxSize, sized);
+	}
+
+	public Stats stats()
+	{
+		int size = created.get();
+		long elapsed = System.nanoTime() - startNanos;
+		double utilization = size == 0 || elapsed <= 0 ? 0 : Math.min(1.0, (double) busyNanos.sum() / ((double) elapsed * size));
+		return new Stats(size, limit(), inUse.get(), borrows.sum(), waits.sum(), waitNanos.sum(), utilization);
+	}
+
+	private int acquire() throws InterruptedException
+	{
+		borrows.increment();
+		if (retired)
+		{
+			inUse.incrementAndGet();
+			return -1;
+		}
+		if (!available.tryAcquire())
+		{
+			int slot = create();
+			if (slot >= 0)
+			{
+				return slot;
+			}
+
+			long start = System.nanoTime();
+			waits.increment();
+			while (!available.tryAcquire(CREATE_RETRY_MILLIS, TimeUnit.MILLISECONDS))
+			{
+				slot = create();
+				if (slot >= 0)
+				{
+					waitNanos.add(System.nanoTime() - start);
+					return slot;
+				}
+			}
+			waitNanos.add(System.nanoTime() - start);
+		}
+
+		inUse.incrementAndGet();
+		int[] hint = affinity.get();
+		for (int i = 0; ; i++)
+		{
+			if (retired)
+			{
+				return -1;
+			}
+			int slot = (hint[0] + i) % instances.length;
+			if (idle.getAndSet(slot, null) != null)
+			{
+				hint[0] = slot;
+				return slot;
+			}
+		}
+	}
+
+	private void release(int slot)
+	{
+		inUse.decrementAndGet();
+		if (slot < 0)
+		{
+			return;
+		}
+		@SuppressWarnings("unchecked")
+		T instance = (T) instances[slot];
+		if (retired)
+		{
+			instances[slot] = null;
+			disposer.accept(instance);
+			return;
+		}
+		idle.set(slot, instance);
+		available.release();
+		if (retired && idle.getAndSet(slot, null) != null)
+		{
+			instances[slot] = null;
+			disposer.accept(instance);
+		}
+	}
+
+	private int create()
+	{
+		while (true)
+		{
+			int size = created.get();
+			if (retired || size >= limit())
+			{
+				return -1;
+			}
+			if (created.compareAndSet(size, size + 1))
+			{
+				int slot = reserveSlot();
+				try
+				{
+					instances[slot] = factory.get();
+				}
+				catch (RuntimeException e)
+				{
+					reserved.set(slot, 0);
+					created.decrementAndGet();
+					throw e;
+				}
+				inUse.incrementAndGet();
+				affinity.get()[0] = slot;
+				return slot;
+			}
+		}
+	}
+
+	private int reserveSlot()
+	{
+		for (int slot = 0; ; slot = (slot + 1) % reserved.length())
+		{
+			if (reserved.compareAndSet(slot, 0, 1))
+			{
+				return slot;
+			}
+		}
+	}
+}
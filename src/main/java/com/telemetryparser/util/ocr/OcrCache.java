@@ -0,0 +1,127 @@
+package com.telemetryparser.util.ocr;
+
+import com.telemetryparser.util.image.BinaryImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OcrCache
+{
+	private static final int ENTRY_OVERHEAD_BYTES = 96;
+	private static final long SEED_LOW = 0x9E3779B97F4A7C15L;
+	private static final long SEED_HIGH = 0xC2B2AE3D27D4EB4FL;
+
+	private final int maxEntries;
+	private final long maxBytes;
+	private final LinkedHashMap<Key, String> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private long bytes;
+
+	public OcrCache(int maxEntries, long maxBytes)
+	{
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+	}
+
+	public record Key(long low, long high, int width, int height, String whitelist)
+	{
+	}
+
+	public static Key key(BinaryImage image, String whitelist)
+	{
+		long low = SEED_LOW ^ image.width();
+		long high = SEED_HIGH ^ ((long) image.height() << 32);
+		long[] words = image.words();
+		for (long word : words)
+		{
+			low = Long.rotateLeft(low ^ mix(word), 27) * 5 + 0x52DCE729;
+			high = Long.rotateLeft(high ^ mix(word ^ SEED_HIGH), 31) * 5 + 0x38495AB5;
+		}
+		low ^= words.length;
+		high ^= words.length;
+		low += high;
+		high += low;
+		return new Key(mix(low), mix(high), image.width(), image.height(), whitelist);
+	}
+
+	private static long mix(long value)
+	{
+		value ^= value >>> 33;
+		value *= 0xFF51AFD7ED558CCDL;
+		value ^= value >>> 33;
+		value *= 0xC4CEB9FE1A85EC53L;
+		value ^= value >>> 33;
+		return value;
+	}
+
+	public synchronized String get(Key key)
+	{
+		String text = entries.get(key);
+		if (text == null)
+		{
+			misses.increment();
+		}
+		else
+		{
+			hits.increment();
+		}
+		return text;
+	}
+
+	public synchronized void put(Key key, String text)
+	{
+		String previous = entries.put(key, text);
+		if (previous != null)
+		{
+			bytes -= size(previous);
+		}
+		bytes += size(text);
+
+		var iterator = entries.entrySet().iterator();
+		while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext())
+		{
+			Map.Entry<Key, String> eldest = iterator.next();
+			bytes -= size(eldest.getValue());
+			iterator.remove();
+		}
+	}
+
+	public synchronized void invalidate()
+	{
+		entries.clear();
+		bytes = 0;
+	}
+
+	public synchronized int size()
+	{
+		return entries.size();
+	}
+
+	public synchronized long bytes()
+	{
+		return bytes;
+	}
+
+	public long hits()
+	{
+		return hits.sum();
+	}
+
+	public long misses()
+	{
+		return misses.sum();
+	}
+
+	public double hitRate()
+	{
+		long hitCount = hits();
+		long total = hitCount + misses();
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+	private static long size(String text)
+	{
+		return ENTRY_OVERHEAD_BYTES + 2L * text.length();
+	}
+}
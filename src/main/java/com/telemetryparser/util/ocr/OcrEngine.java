@@ -0,0 +1,80 @@
+package com.telemetryparser.util.ocr;
+
+import com.sun.jna.Pointer;
+import com.telemetryparser.util.image.BinaryImage;
+import java.awt.Rectangle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import net.sourceforge.tess4j.ITessAPI.TessBaseAPI;
+import net.sourceforge.tess4j.TessAPI;
+
+public class OcrEngine implements AutoCloseable
+{
+	private static final int SOURCE_RESOLUTION = 70;
+
+	private final TessAPI api = TessAPI.INSTANCE;
+	private final TessBaseAPI handle;
+	private final OcrStrip strip = new OcrStrip();
+
+	public OcrEngine(String dataPath, String language, OcrProfile profile, String whitelist)
+	{
+		handle = api.TessBaseAPICreate();
+		if (api.TessBaseAPIInit2(handle, dataPath, language, profile.engineMode) != 0)
+		{
+			api.TessBaseAPIDelete(handle);
+			throw new IllegalStateException("Could not initialize Tesseract with language " + language + " from " + dataPath);
+		}
+		api.TessBaseAPISetPageSegMode(handle, profile.pageSegMode);
+		api.TessBaseAPISetVariable(handle, "debug_file", "/dev/null");
+		api.TessBaseAPISetVariable(handle, "enable_new_segsearch", "0");
+		api.TessBaseAPISetVariable(handle, "load_system_dawg", "0");
+		api.TessBaseAPISetVariable(handle, "load_freq_dawg", "0");
+		api.TessBaseAPISetVariable(handle, "tessedit_char_whitelist", whitelist);
+	}
+
+	public String recognize(BinaryImage image)
+	{
+		return recognize(List.of(image)).getFirst();
+	}
+
+	public List<String> recognize(List<BinaryImage> images)
+	{
+		strip.pack(images);
+		return recognize(strip.buffer(), strip.width(), strip.height(), strip.stride(), strip.rectangles());
+	}
+
+	public List<String> recognize(ByteBuffer gray, int width, int height, int stride, List<Rectangle> rectangles)
+	{
+		api.TessBaseAPISetImage(handle, gray, width, height, 1, stride);
+		api.TessBaseAPISetSourceResolution(handle, SOURCE_RESOLUTION);
+
+		List<String> results = new ArrayList<>(rectangles.size());
+		for (Rectangle rectangle : rectangles)
+		{
+			api.TessBaseAPISetRectangle(handle, rectangle.x, rectangle.y, rectangle.width, rectangle.height);
+			Pointer text = api.TessBaseAPIGetUTF8Text(handle);
+			if (text == null)
+			{
+				results.add("");
+				continue;
+			}
+			try
+			{
+				results.add(text.getString(0, "UTF-8").trim());
+			}
+			finally
+			{
+				api.TessDeleteText(text);
+			}
+		}
+		return results;
+	}
+
+	@Override
+	public void close()
+	{
+		api.TessBaseAPIEnd(handle);
+		api.TessBaseAPIDelete(handle);
+	}
+}
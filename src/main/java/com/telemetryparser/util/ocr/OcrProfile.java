@@ -0,0 +1,31 @@
+package com.telemetryparser.util.ocr;
+
+import net.sourceforge.tess4j.ITessAPI.TessOcrEngineMode;
+import net.sourceforge.tess4j.ITessAPI.TessPageSegMode;
+
+public enum OcrProfile
+{
+	CLOCK("Clock", "0123456789+-:T.", TessPageSegMode.PSM_SINGLE_LINE, TessOcrEngineMode.OEM_LSTM_ONLY, 0.25),
+	SPEED("Speed", "0123456789.", TessPageSegMode.PSM_SINGLE_WORD, TessOcrEngineMode.OEM_LSTM_ONLY, 0.375),
+	ALTITUDE("Altitude", "0123456789.", TessPageSegMode.PSM_SINGLE_WORD, TessOcrEngineMode.OEM_LSTM_ONLY, 0.375);
+
+	public final String name;
+	public final String whitelist;
+	public final int pageSegMode;
+	public final int engineMode;
+	private final double coreShare;
+
+	OcrProfile(String name, String whitelist, int pageSegMode, int engineMode, double coreShare)
+	{
+		this.name = name;
+		this.whitelist = whitelist;
+		this.pageSegMode = pageSegMode;
+		this.engineMode = engineMode;
+		this.coreShare = coreShare;
+	}
+
+	public int minPoolSize()
+	{
+		return Math.max(1, (int) Math.round(InstancePool.defaultMinSize() * coreShare));
+	}
+}
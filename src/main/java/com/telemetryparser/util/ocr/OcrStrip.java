@@ -0,0 +1,109 @@
+package com.telemetryparser.util.ocr;
+
+import com.telemetryparser.util.image.BinaryImage;
+import java.awt.Rectangle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OcrStrip
+{
+	private static final int PADDING = 8;
+	private static final byte SET = (byte) 0xFF;
+
+	private final List<Rectangle> rectangles = new ArrayList<>();
+	private ByteBuffer buffer = ByteBuffer.allocateDirect(0);
+	private int width;
+	private int height;
+	private int stride;
+
+	public OcrStrip pack(List<BinaryImage> images)
+	{
+		int contentWidth = 1;
+		height = PADDING;
+		for (BinaryImage image : images)
+		{
+			contentWidth = Math.max(contentWidth, image.width());
+			height += image.height() + PADDING;
+		}
+		width = contentWidth + 2 * PADDING;
+		stride = (width + 3) & ~3;
+
+		int size = stride * height;
+		if (buffer.capacity() < size)
+		{
+			buffer = ByteBuffer.allocateDirect(Math.max(size, buffer.capacity() * 2)).order(ByteOrder.nativeOrder());
+		}
+		clear(size);
+
+		rectangles.clear();
+		int y = PADDING;
+		for (BinaryImage image : images)
+		{
+			write(image, PADDING, y);
+			rectangles.add(new Rectangle(PADDING, y, image.width(), image.height()));
+			y += image.height() + PADDING;
+		}
+		return this;
+	}
+
+	private void clear(int size)
+	{
+		int i = 0;
+		for (; i + Long.BYTES <= size; i += Long.BYTES)
+		{
+			buffer.putLong(i, 0L);
+		}
+		for (; i < size; i++)
+		{
+			buffer.put(i, (byte) 0);
+		}
+	}
+
+	private void write(BinaryImage image, int left, int top)
+	{
+		long[] words = image.words();
+		int wordsPerRow = image.wordsPerRow();
+		for (int y = 0; y < image.height(); y++)
+		{
+			int row = y * wordsPerRow;
+			int dst = (top + y) * stride + left;
+			for (int w = 0; w < wordsPerRow; w++)
+			{
+				long word = words[row + w];
+				while (word != 0)
+				{
+					int x = (w << 6) + Long.numberOfTrailingZeros(word);
+					buffer.put(dst + x, SET);
+					word &= word - 1;
+				}
+			}
+		}
+	}
+
+	public ByteBuffer buffer()
+	{
+		return buffer;
+	}
+
+	public int width()
+	{
+		return width;
+	}
+
+	public int height()
+	{
+		return height;
+	}
+
+	public int stride()
+	{
+		return stride;
+	}
+
+	public List<Rectangle> rectangles()
+	{
+		return rectangles;
+	}
+}
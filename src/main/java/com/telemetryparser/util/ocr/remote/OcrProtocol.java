@@ -0,0 +1,190 @@
+package com.telemetryparser.util.ocr.remote;
+
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.ocr.OcrProfile;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OcrProtocol
+{
+	public static final int MAGIC = 0x4F435231;
+	public static final int DEFAULT_PORT = 5710;
+	private static final byte STATUS_OK = 0;
+	private static final byte STATUS_ERROR = 1;
+	private static final int MAX_DIMENSION = 4096;
+	public static final int MAX_IMAGES = 64;
+	public static final int MAX_REQUEST_BYTES = 1 << 20;
+
+	public record Request(int id, OcrProfile profile, String whitelist, List<BinaryImage> images)
+	{
+	}
+
+	public record Response(int id, List<String> texts, String error)
+	{
+	}
+
+	public static void handshake(DataOutputStream out, DataInputStream in) throws IOException
+	{
+		out.writeInt(MAGIC);
+		out.flush();
+		int magic = in.readInt();
+		if (magic != MAGIC)
+		{
+			throw new IOException("Peer does not speak the OCR worker protocol");
+		}
+	}
+
+	public static void checkLimits(List<BinaryImage> images) throws IOException
+	{
+		if (images.size() > MAX_IMAGES)
+		{
+			throw new IOException("Request has " + images.size() + " images, at most " + MAX_IMAGES + " are allowed");
+		}
+		long payload = 0;
+		for (BinaryImage image : images)
+		{
+			if (image.width() > MAX_DIMENSION || image.height() > MAX_DIMENSION)
+			{
+				throw new IOException("Image of " + image.width() + "x" + image.height() + " is too large");
+			}
+			payload += packedSize(image.width(), image.height());
+		}
+		if (payload > MAX_REQUEST_BYTES)
+		{
+			throw new IOException("Request payload of " + payload + " bytes exceeds " + MAX_REQUEST_BYTES);
+		}
+	}
+
+	public static void writeRequest(DataOutputStream out, Request request) throws IOException
+	{
+		checkLimits(request.images());
+		out.writeInt(request.id());
+		out.writeByte(request.profile().ordinal());
+		out.writeUTF(request.whitelist());
+		out.writeShort(request.images().size());
+		for (BinaryImage image : request.images())
+		{
+			writeImage(out, image);
+		}
+	}
+
+	public static Request readRequest(DataInputStream in) throws IOException
+	{
+		int id = in.readInt();
+		int profile = in.readUnsignedByte();
+		if (profile >= OcrProfile.values().length)
+		{
+			throw new IOException("Unknown OCR profile " + profile);
+		}
+		String whitelist = in.readUTF();
+		int count = in.readUnsignedShort();
+		if (count > MAX_IMAGES)
+		{
+			throw new IOException("Request has " + count + " images, at most " + MAX_IMAGES + " are allowed");
+		}
+		List<BinaryImage> images = new ArrayList<>(count);
+		int remaining = MAX_REQUEST_BYTES;
+		for (int i = 0; i < count; i++)
+		{
+			BinaryImage image = readImage(in, remaining);
+			remaining -= packedSize(image.width(), image.height());
+			images.add(image);
+		}
+		return new Request(id, OcrProfile.values()[profile], whitelist, images);
+	}
+
+	public static void writeResponse(DataOutputStream out, Response response) throws IOException
+	{
+		out.writeInt(response.id());
+		if (response.error() != null)
+		{
+			out.writeByte(STATUS_ERROR);
+			out.writeUTF(response.error());
+			return;
+		}
+		out.writeByte(STATUS_OK);
+		out.writeShort(response.texts().size());
+		for (String text : response.texts())
+		{
+			out.writeUTF(text);
+		}
+	}
+
+	public static Response readResponse(DataInputStream in) throws IOException
+	{
+		int id = in.readInt();
+		byte status = in.readByte();
+		if (status == STATUS_ERROR)
+		{
+			return new Response(id, null, in.readUTF());
+		}
+		int count = in.readUnsignedShort();
+		if (count > MAX_IMAGES)
+		{
+			throw new IOException("Response has " + count + " texts, at most " + MAX_IMAGES + " are allowed");
+		}
+		List<String> texts = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+		{
+			texts.add(in.readUTF());
+		}
+		return new Response(id, texts, null);
+	}
+
+	private static void writeImage(DataOutputStream out, BinaryImage image) throws IOException
+	{
+		int width = image.width();
+		int height = image.height();
+		int rowBytes = (width + 7) >>> 3;
+		long[] words = image.words();
+		byte[] packed = new byte[rowBytes * height];
+		for (int y = 0, i = 0; y < height; y++)
+		{
+			int row = y * image.wordsPerRow();
+			for (int b = 0; b < rowBytes; b++)
+			{
+				packed[i++] = (byte) (words[row + (b >>> 3)] >>> ((b & 7) << 3));
+			}
+		}
+		out.writeShort(width);
+		out.writeShort(height);
+		out.write(packed);
+	}
+
+	private static int packedSize(int width, int height)
+	{
+		return ((width + 7) >>> 3) * height;
+	}
+
+	private static BinaryImage readImage(DataInputStream in, int remaining) throws IOException
+	{
+		int width = in.readUnsignedShort();
+		int height = in.readUnsignedShort();
+		if (width > MAX_DIMENSION || height > MAX_DIMENSION)
+		{
+			throw new IOException("Image of " + width + "x" + height + " is too large");
+		}
+		if (packedSize(width, height) > remaining)
+		{
+			throw new IOException("Image of " + width + "x" + height + " exceeds the request payload limit of " + MAX_REQUEST_BYTES + " bytes");
+		}
+		int rowBytes = (width + 7) >>> 3;
+		byte[] packed = new byte[rowBytes * height];
+		in.readFully(packed);
+
+		BinaryImage image = new BinaryImage(width, height);
+		long[] words = image.words();
+		for (int y = 0, i = 0; y < height; y++)
+		{
+			int row = y * image.wordsPerRow();
+			for (int b = 0; b < rowBytes; b++)
+			{
+				words[row + (b >>> 3)] |= (packed[i++] & 0xFFL) << ((b & 7) << 3);
+			}
+		}
+		return image;
+	}
+}
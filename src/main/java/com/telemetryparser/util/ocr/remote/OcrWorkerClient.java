@@ -0,0 +1,178 @@
+package com.telemetryparser.util.ocr.remote;
+
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.ocr.OcrProfile;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OcrWorkerClient implements AutoCloseable
+{
+	private static final int CONNECT_TIMEOUT_MS = 1000;
+
+	private final String host;
+	private final int port;
+	private final long timeoutMillis;
+	private final Map<Integer, CompletableFuture<List<String>>> pending = new ConcurrentHashMap<>();
+	private final AtomicInteger ids = new AtomicInteger();
+	private volatile Socket socket;
+	private volatile DataOutputStream out;
+
+	public OcrWorkerClient(String host, int port, long timeoutMillis)
+	{
+		this.host = host;
+		this.port = port;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	public synchronized void connect() throws IOException
+	{
+		if (isConnected())
+		{
+			return;
+		}
+		Socket connection = new Socket();
+		try
+		{
+			connection.setTcpNoDelay(true);
+			connection.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+			DataOutputStream output = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+			DataInputStream input = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+			OcrProtocol.handshake(output, input);
+
+			socket = connection;
+			out = output;
+			Thread reader = new Thread(() -> readLoop(connection, input), "ocr-client-" + host + ":" + port);
+			reader.setDaemon(true);
+			reader.start();
+		}
+		catch (IOException e)
+		{
+			connection.close();
+			throw e;
+		}
+	}
+
+	public boolean isConnected()
+	{
+		Socket current = socket;
+		return current != null && !current.isClosed();
+	}
+
+	public int pending()
+	{
+		return pending.size();
+	}
+
+	public String address()
+	{
+		return host + ":" + port;
+	}
+
+	public CompletableFuture<List<String>> recognize(OcrProfile profile, String whitelist, List<BinaryImage> images)
+	{
+		Socket connection = socket;
+		DataOutputStream output = out;
+		if (connection == null || connection.isClosed() || output == null)
+		{
+			return CompletableFuture.failedFuture(new IOException("OCR worker " + address() + " is not connected"));
+		}
+
+		try
+		{
+			OcrProtocol.checkLimits(images);
+		}
+		catch (IOException e)
+		{
+			return CompletableFuture.failedFuture(e);
+		}
+
+		int id = ids.getAndIncrement();
+		CompletableFuture<List<String>> future = new CompletableFuture<>();
+		pending.put(id, future);
+		try
+		{
+			synchronized (output)
+			{
+				OcrProtocol.writeRequest(output, new OcrProtocol.Request(id, profile, whitelist, images));
+				output.flush();
+			}
+		}
+		catch (IOException e)
+		{
+			disconnect(connection, e);
+			future.completeExceptionally(e);
+		}
+		return future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).whenComplete((texts, error) -> pending.remove(id));
+	}
+
+	private void readLoop(Socket connection, DataInputStream input)
+	{
+		try
+		{
+			while (!connection.isClosed())
+			{
+				OcrProtocol.Response response = OcrProtocol.readResponse(input);
+				CompletableFuture<List<String>> future = pending.remove(response.id());
+				if (future == null)
+				{
+					continue;
+				}
+				if (response.error() != null)
+				{
+					future.completeExceptionally(new IOException("OCR worker " + address() + " failed: " + response.error()));
+				}
+				else
+				{
+					future.complete(response.texts());
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			disconnect(connection, e);
+		}
+	}
+
+	private synchronized void disconnect(Socket connection, IOException cause)
+	{
+		if (connection == null || socket != connection)
+		{
+			return;
+		}
+		socket = null;
+		out = null;
+		try
+		{
+			connection.close();
+		}
+		catch (IOException ignored)
+		{
+
+		}
+		for (Integer id : pending.keySet())
+		{
+			CompletableFuture<List<String>> future = pending.remove(id);
+			if (future != null)
+			{
+				future.completeExceptionally(cause);
+			}
+		}
+	}
+
+	@Override
+	public void close()
+	{
+		disconnect(socket, new IOException("OCR worker client closed"));
+	}
+}
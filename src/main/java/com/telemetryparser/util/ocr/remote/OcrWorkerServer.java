@@ -0,0 +1,232 @@
+package com.telemetryparser.util.ocr.remote;
+
+import com.telemetryparser.util.TesseractManager;
+import com.telemetryparser.util.ocr.InstancePool;
+import com.telemetryparser.util.ocr.OcrEngine;
+import com.telemetryparser.util.ocr.OcrProfile;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+public class OcrWorkerServer
+{
+	private static final int MAX_GENERATIONS = 8;
+	private static final String USAGE = "Usage: --ocr-worker [--port <port>] [--bind <address>] [--allow-remote true] [--threads <n>]";
+
+	private final ServerSocket serverSocket;
+	private final ExecutorService executor;
+	private final int threads;
+	private final int maxInFlightPerConnection;
+	private final Map<GenerationKey, InstancePool<OcrEngine>> generations = new LinkedHashMap<>(16, 0.75f, true);
+
+	private record GenerationKey(OcrProfile profile, String whitelist)
+	{
+	}
+
+	public OcrWorkerServer(int port, InetAddress bind, int threads) throws IOException
+	{
+		this.serverSocket = new ServerSocket(port, 50, bind);
+		this.threads = threads;
+		this.maxInFlightPerConnection = Math.max(4, threads * 2);
+		this.executor = Executors.newFixedThreadPool(threads, runnable ->
+		{
+			Thread thread = new Thread(runnable, "ocr-worker");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public int port()
+	{
+		return serverSocket.getLocalPort();
+	}
+
+	public void serve() throws IOException
+	{
+		System.out.println("OCR worker listening on " + serverSocket.getLocalSocketAddress() + " with " + threads + " threads");
+		while (!serverSocket.isClosed())
+		{
+			Socket connection = serverSocket.accept();
+			connection.setTcpNoDelay(true);
+			Thread handler = new Thread(() -> handle(connection), "ocr-connection-" + connection.getRemoteSocketAddress());
+			handler.setDaemon(true);
+			handler.start();
+		}
+	}
+
+	public void close() throws IOException
+	{
+		serverSocket.close();
+		executor.shutdownNow();
+		synchronized (generations)
+		{
+			generations.values().forEach(InstancePool::retire);
+			generations.clear();
+		}
+	}
+
+	private void handle(Socket connection)
+	{
+		try (connection)
+		{
+			DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+			OcrProtocol.handshake(out, in);
+			Semaphore inFlight = new Semaphore(maxInFlightPerConnection);
+			while (true)
+			{
+				inFlight.acquire();
+				OcrProtocol.Request request;
+				try
+				{
+					request = OcrProtocol.readRequest(in);
+				}
+				catch (IOException e)
+				{
+					inFlight.release();
+					throw e;
+				}
+				executor.execute(() ->
+				{
+					try
+					{
+						respond(out, request);
+					}
+					finally
+					{
+						inFlight.release();
+					}
+				});
+			}
+		}
+		catch (EOFException ignored)
+		{
+
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		catch (RejectedExecutionException ignored)
+		{
+
+		}
+		catch (IOException e)
+		{
+			System.err.println("OCR connection " + connection.getRemoteSocketAddress() + " closed: " + e.getMessage());
+		}
+	}
+
+	private void respond(DataOutputStream out, OcrProtocol.Request request)
+	{
+		OcrProtocol.Response response;
+		try
+		{
+			List<String> texts = pool(request.profile(), request.whitelist()).use(engine -> engine.recognize(request.images()));
+			response = new OcrProtocol.Response(request.id(), texts, null);
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return;
+		}
+		catch (Exception e)
+		{
+			response = new OcrProtocol.Response(request.id(), null, String.valueOf(e.getMessage()));
+		}
+
+		try
+		{
+			synchronized (out)
+			{
+				OcrProtocol.writeResponse(out, response);
+				out.flush();
+			}
+		}
+		catch (IOException e)
+		{
+			System.err.println("Could not send OCR response: " + e.getMessage());
+		}
+	}
+
+	private InstancePool<OcrEngine> pool(OcrProfile profile, String whitelist)
+	{
+		GenerationKey key = new GenerationKey(profile, whitelist);
+		InstancePool<OcrEngine> pool;
+		Map.Entry<GenerationKey, InstancePool<OcrEngine>> evicted = null;
+		synchronized (generations)
+		{
+			pool = generations.get(key);
+			if (pool == null)
+			{
+				pool = new InstancePool<>(() -> TesseractManager.createEngine(profile, whitelist), OcrEngine::close, 1, threads);
+				generations.put(key, pool);
+				if (generations.size() > MAX_GENERATIONS)
+				{
+					Iterator<Map.Entry<GenerationKey, InstancePool<OcrEngine>>> eldest = generations.entrySet().iterator();
+					evicted = eldest.next();
+					eldest.remove();
+				}
+			}
+		}
+		if (evicted != null)
+		{
+			System.out.println("OCR worker retired " + evicted.getKey().profile().name + " engines for whitelist: " + evicted.getKey().whitelist());
+			evicted.getValue().retire();
+		}
+		return pool;
+	}
+
+	public static int run(String[] args)
+	{
+		Map<String, String> options = new HashMap<>();
+		for (int i = 0; i < args.length; i += 2)
+		{
+			if (!args[i].startsWith("--") || i + 1 >= args.length)
+			{
+				System.err.println(USAGE);
+				return 2;
+			}
+			options.put(args[i].substring(2), args[i + 1]);
+		}
+
+		try
+		{
+			int port = Integer.parseInt(options.getOrDefault("port", String.valueOf(OcrProtocol.DEFAULT_PORT)));
+			int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+			InetAddress bind = InetAddress.getByName(options.getOrDefault("bind", InetAddress.getLoopbackAddress().getHostAddress()));
+			if (!bind.isLoopbackAddress() && !Boolean.parseBoolean(options.get("allow-remote")))
+			{
+				System.err.println("Refusing to bind " + bind.getHostAddress() + ": the OCR worker protocol is unauthenticated. Pass --allow-remote true to accept connections from other hosts.");
+				return 2;
+			}
+			new OcrWorkerServer(port, bind, threads).serve();
+			return 0;
+		}
+		catch (NumberFormatException e)
+		{
+			System.err.println(USAGE);
+			return 2;
+		}
+		catch (IOException e)
+		{
+			System.err.println("OCR worker failed: " + e.getMessage());
+			return 1;
+		}
+	}
+}
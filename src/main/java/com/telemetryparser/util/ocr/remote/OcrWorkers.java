@@ -0,0 +1,194 @@
+package com.telemetryparser.util.ocr.remote;
+
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.ocr.OcrProfile;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OcrWorkers
+{
+	private static final long RECONNECT_INTERVAL_MS = 5000;
+	private static final OcrWorkers shared = new OcrWorkers();
+
+	private record Endpoint(String host, int port)
+	{
+	}
+
+	private final Map<OcrWorkerClient, Long> lastAttempt = new ConcurrentHashMap<>();
+	private final LongAdder remote = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private volatile List<OcrWorkerClient> clients = List.of();
+	private volatile long timeoutMillis = 2000;
+
+	public static OcrWorkers get()
+	{
+		return shared;
+	}
+
+	public synchronized void configure(String endpoints, long timeoutMillis)
+	{
+		this.timeoutMillis = timeoutMillis;
+		List<OcrWorkerClient> configured = new ArrayList<>();
+		if (endpoints != null)
+		{
+			for (String endpoint : endpoints.split(","))
+			{
+				String trimmed = endpoint.trim();
+				if (trimmed.isEmpty())
+				{
+					continue;
+				}
+				Endpoint parsed = parseEndpoint(trimmed);
+				if (parsed == null)
+				{
+					System.err.println("Ignoring invalid OCR worker address " + trimmed);
+					continue;
+				}
+				configured.add(new OcrWorkerClient(parsed.host(), parsed.port(), timeoutMillis));
+			}
+		}
+
+		List<OcrWorkerClient> previous = clients;
+		clients = List.copyOf(configured);
+		lastAttempt.clear();
+		previous.forEach(OcrWorkerClient::close);
+		configured.forEach(client -> ForkJoinPool.commonPool().execute(() -> tryConnect(client)));
+	}
+
+	public static List<String> invalidEndpoints(String endpoints)
+	{
+		List<String> invalid = new ArrayList<>();
+		for (String endpoint : endpoints.split(","))
+		{
+			String trimmed = endpoint.trim();
+			if (!trimmed.isEmpty() && parseEndpoint(trimmed) == null)
+			{
+				invalid.add(trimmed);
+			}
+		}
+		return invalid;
+	}
+
+	private static Endpoint parseEndpoint(String endpoint)
+	{
+		int colon = endpoint.lastIndexOf(':');
+		String host = colon < 0 ? endpoint : endpoint.substring(0, colon);
+		if (host.isEmpty())
+		{
+			return null;
+		}
+		if (colon < 0)
+		{
+			return new Endpoint(host, OcrProtocol.DEFAULT_PORT);
+		}
+		try
+		{
+			int port = Integer.parseInt(endpoint.substring(colon + 1));
+			return port > 0 && port <= 65535 ? new Endpoint(host, port) : null;
+		}
+		catch (NumberFormatException e)
+		{
+			return null;
+		}
+	}
+
+	public boolean isEnabled()
+	{
+		return !clients.isEmpty();
+	}
+
+	public CompletableFuture<List<String>> recognize(OcrProfile profile, String whitelist, List<BinaryImage> images)
+	{
+		OcrWorkerClient client = pick();
+		if (client == null)
+		{
+			failures.increment();
+			return CompletableFuture.failedFuture(new IOException("No OCR worker is connected"));
+		}
+		remote.increment();
+		return client.recognize(profile, whitelist, images).whenComplete((texts, error) ->
+		{
+			if (error != null)
+			{
+				failures.increment();
+			}
+		});
+	}
+
+	private OcrWorkerClient pick()
+	{
+		OcrWorkerClient best = null;
+		for (OcrWorkerClient client : clients)
+		{
+			if (!client.isConnected())
+			{
+				long now = System.currentTimeMillis();
+				Long last = lastAttempt.get(client);
+				if (last == null || now - last >= RECONNECT_INTERVAL_MS)
+				{
+					lastAttempt.put(client, now);
+					ForkJoinPool.commonPool().execute(() -> tryConnect(client));
+				}
+				continue;
+			}
+			if (best == null || client.pending() < best.pending())
+			{
+				best = client;
+			}
+		}
+		return best;
+	}
+
+	private void tryConnect(OcrWorkerClient client)
+	{
+		lastAttempt.put(client, System.currentTimeMillis());
+		try
+		{
+			client.connect();
+			System.out.println("Connected to OCR worker " + client.address());
+		}
+		catch (IOException e)
+		{
+			System.err.println("Could not connect to OCR worker " + client.address() + ": " + e.getMessage());
+		}
+	}
+
+	public int connected()
+	{
+		int connected = 0;
+		for (OcrWorkerClient client : clients)
+		{
+			if (client.isConnected())
+			{
+				connected++;
+			}
+		}
+		return connected;
+	}
+
+	public int configured()
+	{
+		return clients.size();
+	}
+
+	public long timeoutMillis()
+	{
+		return timeoutMillis;
+	}
+
+	public long remoteRequests()
+	{
+		return remote.sum();
+	}
+
+	public long failures()
+	{
+		return failures.sum();
+	}
+}
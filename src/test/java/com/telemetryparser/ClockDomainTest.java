@@ -0,0 +1,67 @@
+package com.telemetryparser;
+
+import com.telemetryparser.core.ClockDomain;
+import com.telemetryparser.core.TelemetrySnapshot;
+import com.telemetryparser.timeline.Branch;
+import com.telemetryparser.timeline.BranchResult;
+import java.util.HashMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ClockDomainTest
+{
+	private static int acceptedAtFiveTimesSpeed(ClockDomain domain, Branch branch)
+	{
+		int accepted = 0;
+		for (int frame = 0; frame < 300; frame++)
+		{
+			long playerTime = frame * 100L;
+			long systemTime = 1_000_000 + frame * 20L;
+			double seconds = 10 + Math.floor(frame / 10.0);
+			TelemetrySnapshot snapshot = new TelemetrySnapshot(seconds, new HashMap<>(), systemTime, playerTime, domain.timestamp(playerTime, systemTime));
+			if (branch.canAccept(snapshot, domain))
+			{
+				BranchResult result = branch.addSnapshot(snapshot);
+				if (result.accepted())
+				{
+					accepted++;
+				}
+			}
+		}
+		return accepted;
+	}
+
+	@Test
+	void testMediaClockCalibratesFasterThanRealTime()
+	{
+		Branch branch = new Branch(1);
+		Assertions.assertEquals(300L, acceptedAtFiveTimesSpeed(ClockDomain.MEDIA, branch));
+		double last = branch.branchSnapshots().getLast().getTime();
+		Assertions.assertEquals(39.9, last, 1.0);
+	}
+
+	@Test
+	void testMediaClockRejectsSeekedFrames()
+	{
+		Branch branch = new Branch(1);
+		for (int frame = 0; frame < 20; frame++)
+		{
+			long playerTime = frame * 100L;
+			TelemetrySnapshot snapshot = new TelemetrySnapshot(10 + Math.floor(frame / 10.0), new HashMap<>(), 1_000_000, playerTime, ClockDomain.MEDIA.timestamp(playerTime, 1_000_000));
+			Assertions.assertTrue(branch.canAccept(snapshot, ClockDomain.MEDIA));
+			branch.addSnapshot(snapshot);
+		}
+
+		long playerTime = 2000;
+		TelemetrySnapshot continued = new TelemetrySnapshot(12, new HashMap<>(), 1_000_000, playerTime, ClockDomain.MEDIA.timestamp(playerTime, 1_000_000));
+		Assertions.assertTrue(branch.canAccept(continued, ClockDomain.MEDIA));
+		TelemetrySnapshot seeked = new TelemetrySnapshot(112, new HashMap<>(), 1_000_000, playerTime, ClockDomain.MEDIA.timestamp(playerTime, 1_000_000));
+		Assertions.assertFalse(branch.canAccept(seeked, ClockDomain.MEDIA));
+	}
+
+	@Test
+	void testWallClockRejectsFasterThanRealTime()
+	{
+		Assertions.assertTrue(acceptedAtFiveTimesSpeed(ClockDomain.WALL, new Branch(1)) < 300);
+	}
+}
@@ -0,0 +1,132 @@
+package com.telemetryparser;
+
+import com.telemetryparser.core.fixed.EngineSampler;
+import com.telemetryparser.core.fixed.EngineState;
+import com.telemetryparser.util.EngineLocation;
+import com.telemetryparser.util.ImageUtil;
+import com.telemetryparser.util.ROIRatios;
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.image.ComponentLabeler;
+import com.telemetryparser.util.image.ComponentLabeler.Connectivity;
+import com.telemetryparser.util.image.IntegralImage;
+import com.telemetryparser.util.image.PackedRaster;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EngineDetectionTest
+{
+	@Test
+	void testLabelerConnectivity()
+	{
+		BinaryImage image = new BinaryImage(6, 4);
+		image.set(0, 0);
+		image.set(1, 1);
+		image.set(2, 2);
+		image.set(5, 3);
+
+		ComponentLabeler labeler = new ComponentLabeler();
+		Assertions.assertEquals(2, labeler.label(image, Connectivity.EIGHT).count());
+		Assertions.assertEquals(3, labeler.area(1));
+		Assertions.assertEquals(1.0, labeler.centroidX(1), 0.0);
+		Assertions.assertEquals(Math.sqrt(2), labeler.radius(1), 1e-9);
+
+		Assertions.assertEquals(4, labeler.label(image, Connectivity.FOUR).count());
+		Assertions.assertEquals(4, labeler.labelAt(5, 3));
+	}
+
+	@Test
+	void testRingEnginesFoundInRasterOrder()
+	{
+		BufferedImage image = new BufferedImage(120, 60, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		g.setColor(Color.WHITE);
+		g.setStroke(new BasicStroke(2));
+		g.drawOval(70, 5, 30, 30);
+		g.drawOval(10, 20, 30, 30);
+		g.dispose();
+
+		List<EngineLocation> engines = ImageUtil.findEngineLocations(image);
+		Assertions.assertEquals(2, engines.size());
+		Assertions.assertEquals(85, engines.get(0).middle().x);
+		Assertions.assertEquals(25, engines.get(1).middle().x);
+	}
+
+	@Test
+	void testIntegralImageWindows()
+	{
+		BinaryImage image = new BinaryImage(70, 12);
+		for (int y = 2; y < 7; y++)
+		{
+			for (int x = 60; x < 65; x++)
+			{
+				image.set(x, y);
+			}
+		}
+		image.set(3, 10);
+
+		IntegralImage integral = IntegralImage.of(image);
+		Assertions.assertEquals(26, integral.count(0, 0, 70, 12));
+		Assertions.assertTrue(integral.isFull(60, 2, 5, 5));
+		Assertions.assertFalse(integral.isFull(59, 2, 5, 5));
+		Assertions.assertTrue(integral.containsFullWindow(5));
+		Assertions.assertFalse(integral.containsFullWindow(6));
+		Assertions.assertEquals(new Rectangle(3, 2, 62, 9), integral.bounds(true));
+		Assertions.assertEquals(new Rectangle(0, 0, 70, 12), integral.bounds(false));
+	}
+
+	@Test
+	void testIntegralImageReloadedWithSmallerImage()
+	{
+		BinaryImage large = new BinaryImage(70, 12);
+		for (int y = 0; y < 12; y++)
+		{
+			for (int x = 0; x < 70; x++)
+			{
+				large.set(x, y);
+			}
+		}
+		IntegralImage integral = IntegralImage.of(large);
+		Assertions.assertEquals(840, integral.count(0, 0, 70, 12));
+
+		BinaryImage small = new BinaryImage(20, 5);
+		small.set(0, 0);
+		small.set(19, 4);
+		small.set(7, 2);
+		integral.load(small);
+		Assertions.assertEquals(3, integral.count(0, 0, 20, 5));
+		Assertions.assertEquals(1, integral.count(0, 0, 1, 1));
+		Assertions.assertEquals(1, integral.count(5, 1, 5, 3));
+		Assertions.assertEquals(new Rectangle(0, 0, 20, 5), integral.bounds(true));
+	}
+
+	@Test
+	void testEngineSamplerReadsFrameWindows()
+	{
+		BufferedImage frame = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = frame.createGraphics();
+		g.setColor(Color.WHITE);
+		g.fillOval(45, 45, 10, 10);
+		g.dispose();
+
+		Map<Integer, EngineLocation> engines = new LinkedHashMap<>();
+		engines.put(1, new EngineLocation(new Point(10, 10), 5, 1));
+		engines.put(2, new EngineLocation(new Point(30, 10), 5, 1));
+		engines.put(3, new EngineLocation(new Point(49, 1), 5, 1));
+
+		PackedRaster raster = PackedRaster.of(frame);
+		EngineSampler sampler = EngineSampler.compile(engines, new ROIRatios(0.2, 0.4, 0.5, 0.5), raster);
+		Map<Integer, EngineState> states = sampler.sample(raster, 2.7, 77, 200).engineStates();
+		Assertions.assertTrue(states.get(1).active());
+		Assertions.assertFalse(states.get(2).active());
+		Assertions.assertFalse(states.get(3).active());
+	}
+}
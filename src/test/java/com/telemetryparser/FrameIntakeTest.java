@@ -0,0 +1,47 @@
+package com.telemetryparser;
+
+import com.telemetryparser.core.fixed.FrameIntake;
+import com.telemetryparser.core.fixed.FrameIntake.Policy;
+import com.telemetryparser.core.fixed.QueuedFrame;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FrameIntakeTest
+{
+	private static List<Long> offerAll(FrameIntake intake, int count) throws InterruptedException
+	{
+		for (long i = 0; i < count; i++)
+		{
+			intake.offer(new QueuedFrame(i, null));
+		}
+		List<Long> kept = new ArrayList<>();
+		while (intake.depth() > 0)
+		{
+			kept.add(intake.take().frameNumber());
+		}
+		return kept;
+	}
+
+	@Test
+	void testDropPoliciesReportEveryDroppedFrame() throws InterruptedException
+	{
+		List<Long> dropped = new ArrayList<>();
+		FrameIntake oldest = new FrameIntake(3, Policy.DROP_OLDEST, 1, frame -> dropped.add(frame.frameNumber()));
+		Assertions.assertEquals(List.of(3L, 4L, 5L), offerAll(oldest, 6));
+		Assertions.assertEquals(List.of(0L, 1L, 2L), dropped);
+		Assertions.assertEquals(3, oldest.dropped());
+
+		dropped.clear();
+		FrameIntake newest = new FrameIntake(3, Policy.DROP_NEWEST, 1, frame -> dropped.add(frame.frameNumber()));
+		Assertions.assertEquals(List.of(0L, 1L, 2L), offerAll(newest, 6));
+		Assertions.assertEquals(List.of(3L, 4L, 5L), dropped);
+
+		dropped.clear();
+		FrameIntake nth = new FrameIntake(8, Policy.KEEP_EVERY_NTH, 3, frame -> dropped.add(frame.frameNumber()));
+		Assertions.assertEquals(List.of(0L, 3L, 6L), offerAll(nth, 8));
+		Assertions.assertEquals(List.of(1L, 2L, 4L, 5L, 7L), dropped);
+		Assertions.assertEquals(3, nth.accepted());
+	}
+}
@@ -0,0 +1,52 @@
+package com.telemetryparser;
+
+import com.telemetryparser.core.fixed.FrameScheduler;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FrameSchedulerTest
+{
+	@Test
+	void testOlderFramesRunFirstAndCancelledWorkIsSkipped() throws InterruptedException
+	{
+		FrameScheduler scheduler = new FrameScheduler(1, 1);
+		CountDownLatch gate = new CountDownLatch(1);
+		CompletableFuture<Void> blocker = CompletableFuture.runAsync(() ->
+		{
+			try
+			{
+				gate.await();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}, scheduler.open(0).cpu());
+
+		List<Long> order = new CopyOnWriteArrayList<>();
+		AtomicBoolean cancelledRan = new AtomicBoolean();
+		FrameScheduler.Job cancelled = scheduler.open(2);
+		CompletableFuture<Void> skipped = cancelled.track(CompletableFuture.runAsync(() -> cancelledRan.set(true), cancelled.cpu()));
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[3];
+		long[] frames = {5, 3, 4};
+		for (int i = 0; i < frames.length; i++)
+		{
+			long frame = frames[i];
+			futures[i] = CompletableFuture.runAsync(() -> order.add(frame), scheduler.open(frame).cpu());
+		}
+		cancelled.cancel();
+		gate.countDown();
+
+		CompletableFuture.allOf(futures).join();
+		blocker.join();
+		Assertions.assertEquals(List.of(3L, 4L, 5L), order);
+		Assertions.assertTrue(skipped.isCancelled());
+		Assertions.assertTrue(cancelled.isCancelled());
+		Assertions.assertFalse(cancelledRan.get());
+	}
+}
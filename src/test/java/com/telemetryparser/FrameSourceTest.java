@@ -0,0 +1,71 @@
+package com.telemetryparser;
+
+import com.telemetryparser.headless.ImageDirectorySource;
+import com.telemetryparser.headless.RawFrameSource;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FrameSourceTest
+{
+	@Test
+	void testDirectoryFramesReadInNaturalOrder() throws IOException
+	{
+		File directory = Files.createTempDirectory("frames").toFile();
+		int[] numbers = {10, 2, 1, 33, 9};
+		for (int number : numbers)
+		{
+			BufferedImage image = new BufferedImage(4, 3, BufferedImage.TYPE_3BYTE_BGR);
+			image.setRGB(0, 0, number);
+			ImageIO.write(image, "png", new File(directory, "frame" + number + ".png"));
+		}
+		Files.writeString(new File(directory, "notes.txt").toPath(), "ignored");
+
+		List<Integer> order = new ArrayList<>();
+		try (ImageDirectorySource source = new ImageDirectorySource(directory))
+		{
+			Assertions.assertEquals(5L, source.size());
+			BufferedImage frame;
+			while ((frame = source.next()) != null)
+			{
+				Assertions.assertEquals((long) BufferedImage.TYPE_INT_RGB, frame.getType());
+				order.add(frame.getRGB(0, 0) & 0xFFFFFF);
+			}
+		}
+		Assertions.assertEquals(List.of(1, 2, 9, 10, 33), order);
+	}
+
+	@Test
+	void testRawFramesDecodeRgb24() throws IOException
+	{
+		File file = Files.createTempFile("frames", ".rgb").toFile();
+		try (FileOutputStream output = new FileOutputStream(file))
+		{
+			for (int frame = 0; frame < 3; frame++)
+			{
+				for (int pixel = 0; pixel < 6; pixel++)
+				{
+					output.write(new byte[]{(byte) frame, (byte) pixel, (byte) 0xFF});
+				}
+			}
+		}
+
+		try (RawFrameSource source = new RawFrameSource(file, 3, 2))
+		{
+			for (int frame = 0; frame < 3; frame++)
+			{
+				BufferedImage image = source.next();
+				Assertions.assertNotNull(image);
+				Assertions.assertEquals((long) (frame << 16 | 5 << 8 | 0xFF), image.getRGB(2, 1) & 0xFFFFFF);
+			}
+			Assertions.assertNull(source.next());
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.telemetryparser;
+
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.ocr.GlyphShape;
+import com.telemetryparser.util.ocr.GlyphTemplates;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class GlyphRecognizerTest
+{
+	private static List<GlyphShape> render(String text)
+	{
+		BufferedImage image = new BufferedImage(200, 40, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		g.setColor(Color.WHITE);
+		g.setFont(new Font(Font.MONOSPACED, Font.BOLD, 28));
+		g.drawString(text, 4, 30);
+		g.dispose();
+		return GlyphShape.segment(BinaryImage.fromImage(image));
+	}
+
+	@Test
+	void testTemplatesLearnAfterConfirmations()
+	{
+		GlyphTemplates templates = new GlyphTemplates(null);
+		List<GlyphShape> glyphs = render("0123456789");
+		Assertions.assertEquals(10, glyphs.size());
+		Assertions.assertNull(templates.recognize(glyphs));
+
+		for (int i = 0; i < 2; i++)
+		{
+			templates.learn(glyphs, "0123456789");
+		}
+		Assertions.assertNull(templates.recognize(glyphs));
+
+		templates.learn(glyphs, "0123456789");
+		Assertions.assertEquals("0123456789", templates.recognize(glyphs));
+		Assertions.assertEquals("9081", templates.recognize(render("9081")));
+	}
+
+	@Test
+	void testMismatchedTextIsNotLearned()
+	{
+		GlyphTemplates templates = new GlyphTemplates(null);
+		List<GlyphShape> glyphs = render("123");
+		for (int i = 0; i < 3; i++)
+		{
+			templates.learn(glyphs, "12");
+			templates.learn(glyphs, "1A3");
+		}
+		Assertions.assertEquals(0, templates.size());
+	}
+
+	@Test
+	void testShapeEncodingRoundTrip()
+	{
+		GlyphShape shape = render("8").getFirst();
+		Assertions.assertEquals(shape, GlyphShape.decode(shape.encode()));
+	}
+}
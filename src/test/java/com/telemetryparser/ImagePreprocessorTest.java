@@ -0,0 +1,159 @@
+package com.telemetryparser;
+
+import com.telemetryparser.util.ImageUtil;
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.image.GaussianBlur;
+import com.telemetryparser.util.image.GrayPlane;
+import com.telemetryparser.util.image.ImagePreprocessor;
+import com.telemetryparser.util.image.PixelKernels;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ConvolveOp;
+import java.awt.image.Kernel;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ImagePreprocessorTest
+{
+	private static BufferedImage createFrame()
+	{
+		Random random = new Random(42);
+		BufferedImage frame = new BufferedImage(160, 90, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < frame.getHeight(); y++)
+		{
+			for (int x = 0; x < frame.getWidth(); x++)
+			{
+				int value = Math.min(255, x + random.nextInt(40));
+				frame.setRGB(x, y, new Color(value, 255 - value, (value * 3) % 256).getRGB());
+			}
+		}
+		Graphics2D g2d = frame.createGraphics();
+		g2d.setColor(Color.WHITE);
+		g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 22));
+		g2d.drawString("T+01:23", 20, 50);
+		g2d.dispose();
+		return frame;
+	}
+
+	@Test
+	void testThresholdMatchesPerPixelOnSubimage()
+	{
+		BufferedImage roi = createFrame().getSubimage(13, 21, 97, 41);
+		BufferedImage thresholded = ImageUtil.thresholdBlackWhite(roi, 120);
+
+		for (int y = 0; y < roi.getHeight(); y++)
+		{
+			for (int x = 0; x < roi.getWidth(); x++)
+			{
+				int rgb = roi.getRGB(x, y);
+				boolean white = ((rgb >> 16) & 0xFF) > 120 && ((rgb >> 8) & 0xFF) > 120 && (rgb & 0xFF) > 120;
+				Assertions.assertEquals(white ? 0xFFFFFF : 0, thresholded.getRGB(x, y) & 0xFFFFFF);
+			}
+		}
+	}
+
+	@Test
+	void testBinarizeMatchesAdapters()
+	{
+		BufferedImage roi = createFrame().getSubimage(5, 10, 120, 60);
+		BufferedImage expected = ImageUtil.thresholdBlackWhite(ImageUtil.unsharpMask(roi, 6.8, GaussianBlur.Mode.FIXED_POINT, 2.7, 77), 200);
+		BinaryImage actual = ImagePreprocessor.forCurrentThread().binarize(roi, 6.8, GaussianBlur.Mode.FIXED_POINT, 2.7, 77, 200);
+
+		for (int y = 0; y < roi.getHeight(); y++)
+		{
+			for (int x = 0; x < roi.getWidth(); x++)
+			{
+				Assertions.assertEquals((expected.getRGB(x, y) & 0xFFFFFF) == 0xFFFFFF, actual.get(x, y));
+			}
+		}
+	}
+
+	@Test
+	void testSeparableBlurMatchesConvolveOp()
+	{
+		BufferedImage roi = createFrame().getSubimage(3, 4, 150, 80);
+		double radius = 6.8;
+
+		int size = (int) Math.ceil(radius * 3) | 1;
+		float[] data = new float[size * size];
+		double sigma = radius / 3.0;
+		double mean = size / 2.0;
+		double sum = 0;
+		for (int y = 0; y < size; y++)
+		{
+			for (int x = 0; x < size; x++)
+			{
+				double value = Math.exp(-((x - mean) * (x - mean) + (y - mean) * (y - mean)) / (2 * sigma * sigma));
+				data[y * size + x] = (float) value;
+				sum += value;
+			}
+		}
+		for (int i = 0; i < data.length; i++)
+		{
+			data[i] /= (float) sum;
+		}
+		BufferedImage expected = new BufferedImage(roi.getWidth(), roi.getHeight(), roi.getType());
+		new ConvolveOp(new Kernel(size, size, data), ConvolveOp.EDGE_NO_OP, null).filter(roi, expected);
+
+		GrayPlane actual = new GrayPlane();
+		new GaussianBlur().blur(new GrayPlane().load(roi), actual, radius, GaussianBlur.Mode.FIXED_POINT);
+		for (int y = 0; y < roi.getHeight(); y++)
+		{
+			for (int x = 0; x < roi.getWidth(); x++)
+			{
+				Assertions.assertTrue(Math.abs((expected.getRGB(x, y) & 0xFF) - actual.get(x, y)) <= 1);
+			}
+		}
+	}
+
+	@Test
+	void testKernelsMatchScalar()
+	{
+		PixelKernels kernels = PixelKernels.get();
+		PixelKernels scalar = PixelKernels.scalar();
+		Random random = new Random(4);
+		int length = 203;
+
+		int[] rgb = new int[length];
+		int[] src = new int[length];
+		int[] blur = new int[length];
+		for (int i = 0; i < length; i++)
+		{
+			rgb[i] = random.nextInt(0x1000000);
+			src[i] = random.nextInt(256);
+			blur[i] = random.nextInt(256);
+		}
+
+		int[] expected = new int[length];
+		int[] actual = new int[length];
+		scalar.extractChannel(rgb, 0, expected, 0, length, 8);
+		kernels.extractChannel(rgb, 0, actual, 0, length, 8);
+		Assertions.assertArrayEquals(expected, actual);
+
+		scalar.sharpen(src, 0, blur, 0, expected, 0, length, 2.7, 77);
+		kernels.sharpen(src, 0, blur, 0, actual, 0, length, 2.7, 77);
+		Assertions.assertArrayEquals(expected, actual);
+
+		scalar.threshold(rgb, 0, expected, 0, length, 100);
+		kernels.threshold(rgb, 0, actual, 0, length, 100);
+		Assertions.assertArrayEquals(expected, actual);
+
+		long[] expectedWords = new long[4];
+		long[] actualWords = new long[4];
+		scalar.sharpenThreshold(src, 0, blur, 0, expectedWords, 0, length, 1.3, 10, 150);
+		kernels.sharpenThreshold(src, 0, blur, 0, actualWords, 0, length, 1.3, 10, 150);
+		Assertions.assertArrayEquals(expectedWords, actualWords);
+
+		int[][] expectedSums = new int[3][length];
+		int[][] actualSums = new int[3][length];
+		scalar.accumulateChannels(rgb, 0, length, expectedSums[0], expectedSums[1], expectedSums[2]);
+		kernels.accumulateChannels(rgb, 0, length, actualSums[0], actualSums[1], actualSums[2]);
+		for (int c = 0; c < 3; c++)
+		{
+			Assertions.assertArrayEquals(expectedSums[c], actualSums[c]);
+		}
+	}
+}
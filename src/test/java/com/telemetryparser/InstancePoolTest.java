@@ -0,0 +1,163 @@
+package com.telemetryparser;
+
+import com.telemetryparser.util.ocr.InstancePool;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class InstancePoolTest
+{
+	@Test
+	void testInstancesCreatedLazilyAndReused() throws Exception
+	{
+		AtomicInteger created = new AtomicInteger();
+		InstancePool<Integer> pool = new InstancePool<>(created::incrementAndGet, 2, 4);
+		Assertions.assertEquals(0, pool.stats().size());
+
+		int first = pool.use(instance -> instance);
+		int second = pool.use(instance -> instance);
+		Assertions.assertEquals(first, second);
+		Assertions.assertEquals(1, created.get());
+		Assertions.assertEquals(0, pool.stats().inUse());
+	}
+
+	@Test
+	void testConcurrentBorrowersNeverShareAnInstance() throws Exception
+	{
+		InstancePool<Object> pool = new InstancePool<>(Object::new, 3, 3);
+		Set<Object> busy = ConcurrentHashMap.newKeySet();
+		AtomicInteger overlaps = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		Future<?>[] futures = new Future<?>[8];
+		for (int t = 0; t < futures.length; t++)
+		{
+			futures[t] = executor.submit(() ->
+			{
+				start.await();
+				for (int i = 0; i < 200; i++)
+				{
+					pool.use(instance ->
+					{
+						if (!busy.add(instance))
+						{
+							overlaps.incrementAndGet();
+						}
+						Thread.onSpinWait();
+						busy.remove(instance);
+						return null;
+					});
+				}
+				return null;
+			});
+		}
+		start.countDown();
+		for (Future<?> future : futures)
+		{
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		InstancePool.Stats stats = pool.stats();
+		Assertions.assertEquals(0, overlaps.get());
+		Assertions.assertEquals(3, stats.size());
+		Assertions.assertEquals(1600, stats.borrows());
+		Assertions.assertEquals(0, stats.inUse());
+	}
+
+	@Test
+	void testRetiredPoolReleasesWaitersAndDropsInstances() throws Exception
+	{
+		AtomicInteger created = new AtomicInteger();
+		InstancePool<Integer> pool = new InstancePool<>(created::incrementAndGet, 1, 1);
+		pool.warmUp(1, Runnable::run).get(5, TimeUnit.SECONDS);
+		Assertions.assertEquals(1, pool.stats().size());
+
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch retired = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		Future<Integer> holder = executor.submit(() -> pool.use(instance ->
+		{
+			holding.countDown();
+			retired.await();
+			return instance;
+		}));
+		holding.await();
+		Future<Integer> waiter = executor.submit(() -> pool.use(instance -> instance));
+
+		pool.retire();
+		retired.countDown();
+		Assertions.assertEquals(1, (int) holder.get(5, TimeUnit.SECONDS));
+		Assertions.assertEquals(2, (int) waiter.get(5, TimeUnit.SECONDS));
+		Assertions.assertEquals(3, (int) pool.use(instance -> instance));
+		Assertions.assertEquals(0, pool.stats().inUse());
+		executor.shutdown();
+	}
+
+	@Test
+	void testFailedCreationGivesItsSlotBack() throws Exception
+	{
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch firstEntered = new CountDownLatch(1);
+		CountDownLatch secondCreated = new CountDownLatch(1);
+		InstancePool<Integer> pool = new InstancePool<>(() ->
+		{
+			int call = calls.incrementAndGet();
+			if (call == 1)
+			{
+				firstEntered.countDown();
+				try
+				{
+					secondCreated.await();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+				throw new IllegalStateException("engine failed to start");
+			}
+			return call;
+		}, 2, 2);
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		Future<Integer> failing = executor.submit(() -> pool.use(instance -> instance));
+		firstEntered.await();
+		Assertions.assertEquals(2, (int) pool.use(instance -> instance));
+		secondCreated.countDown();
+		boolean failed = false;
+		try
+		{
+			failing.get(5, TimeUnit.SECONDS);
+		}
+		catch (ExecutionException e)
+		{
+			failed = true;
+		}
+		Assertions.assertTrue(failed, "first creation should have failed");
+
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<Integer> holder = executor.submit(() -> pool.use(instance ->
+		{
+			holding.countDown();
+			release.await();
+			return instance;
+		}));
+		holding.await();
+		Future<Integer> second = executor.submit(() -> pool.use(instance -> instance));
+		Assertions.assertEquals(3, (int) second.get(5, TimeUnit.SECONDS));
+		release.countDown();
+		holder.get(5, TimeUnit.SECONDS);
+		Assertions.assertEquals(2, pool.stats().size());
+		Assertions.assertEquals(0, pool.stats().inUse());
+		executor.shutdown();
+	}
+}
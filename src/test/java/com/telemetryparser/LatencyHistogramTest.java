@@ -0,0 +1,44 @@
+package com.telemetryparser;
+
+import com.telemetryparser.util.metrics.LatencyHistogram;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest
+{
+	@Test
+	void testPercentilesWithinBucketPrecision()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long micros = 1; micros <= 10_000; micros++)
+		{
+			histogram.record(micros * 1000);
+		}
+
+		Assertions.assertEquals(10_000L, histogram.count());
+		Assertions.assertEquals(10_000_000L, histogram.maxNanos());
+		long p50 = histogram.percentileNanos(0.5);
+		long p99 = histogram.percentileNanos(0.99);
+		Assertions.assertTrue(p50 >= 5_000_000 && p50 <= 5_000_000 * 1.125, "p50 was " + p50);
+		Assertions.assertTrue(p99 >= 9_900_000 && p99 <= 10_000_000, "p99 was " + p99);
+		Assertions.assertEquals(histogram.maxNanos(), histogram.percentileNanos(1.0));
+
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		Assertions.assertEquals(10_000L, snapshot.count());
+		Assertions.assertEquals(5.0005, snapshot.meanMillis(), 1e-9);
+
+		histogram.reset();
+		Assertions.assertEquals(0L, histogram.count());
+		Assertions.assertEquals(0L, histogram.percentileNanos(0.99));
+	}
+
+	@Test
+	void testConcurrentRecordingLosesNoSamples()
+	{
+		LatencyHistogram histogram = new LatencyHistogram();
+		IntStream.range(0, 100_000).parallel().forEach(i -> histogram.record(i % 1000 * 1000L));
+		Assertions.assertEquals(100_000L, histogram.count());
+		Assertions.assertEquals(999_000L, histogram.maxNanos());
+	}
+}
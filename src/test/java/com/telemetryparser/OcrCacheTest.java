@@ -0,0 +1,68 @@
+package com.telemetryparser;
+
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.ocr.OcrCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OcrCacheTest
+{
+	private static OcrCache.Key key(int seed)
+	{
+		BinaryImage image = new BinaryImage(20, 5);
+		image.set(seed % 20, seed / 20);
+		return OcrCache.key(image, "0123");
+	}
+
+	@Test
+	void testKeysAndEntryLimit()
+	{
+		BinaryImage image = new BinaryImage(70, 10);
+		image.set(65, 3);
+		BinaryImage same = new BinaryImage(70, 10);
+		same.set(65, 3);
+		BinaryImage other = new BinaryImage(70, 10);
+		other.set(64, 3);
+
+		Assertions.assertEquals(OcrCache.key(image, "0123"), OcrCache.key(same, "0123"));
+		Assertions.assertNotEquals(OcrCache.key(image, "0123"), OcrCache.key(other, "0123"));
+		Assertions.assertNotEquals(OcrCache.key(image, "0123"), OcrCache.key(image, "0123T"));
+
+		OcrCache cache = new OcrCache(2, 1 << 20);
+		cache.put(OcrCache.key(image, "0123"), "1");
+		cache.put(OcrCache.key(other, "0123"), "2");
+		Assertions.assertEquals("1", cache.get(OcrCache.key(same, "0123")));
+		cache.put(OcrCache.key(image, "0123T"), "3");
+		Assertions.assertNull(cache.get(OcrCache.key(other, "0123")));
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertEquals(0.5, cache.hitRate(), 0.0);
+
+		cache.invalidate();
+		Assertions.assertEquals(0, cache.size());
+		Assertions.assertEquals(0, cache.bytes());
+	}
+
+	@Test
+	void testByteLimitEvictsLeastRecentlyUsed()
+	{
+		OcrCache cache = new OcrCache(100, 300);
+		cache.put(key(1), "12");
+		cache.put(key(2), "34");
+		cache.put(key(3), "56");
+		Assertions.assertEquals(3, cache.size());
+		Assertions.assertEquals(300, cache.bytes());
+
+		Assertions.assertEquals("12", cache.get(key(1)));
+		cache.put(key(4), "7890");
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertEquals(204, cache.bytes());
+		Assertions.assertEquals("12", cache.get(key(1)));
+		Assertions.assertEquals("7890", cache.get(key(4)));
+		Assertions.assertNull(cache.get(key(2)));
+		Assertions.assertNull(cache.get(key(3)));
+
+		cache.put(key(5), "0".repeat(200));
+		Assertions.assertEquals(0, cache.size());
+		Assertions.assertEquals(0, cache.bytes());
+	}
+}
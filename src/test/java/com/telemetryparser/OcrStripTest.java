@@ -0,0 +1,56 @@
+package com.telemetryparser;
+
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.ocr.OcrStrip;
+import java.awt.Rectangle;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OcrStripTest
+{
+	private static BinaryImage dot(int width, int height, int x, int y)
+	{
+		BinaryImage image = new BinaryImage(width, height);
+		image.set(x, y);
+		return image;
+	}
+
+	private static int sample(OcrStrip strip, int x, int y)
+	{
+		return strip.buffer().get(y * strip.stride() + x) & 0xFF;
+	}
+
+	@Test
+	void testStripStacksImagesWithoutOverlap()
+	{
+		OcrStrip strip = new OcrStrip().pack(List.of(dot(70, 10, 66, 4), dot(25, 16, 24, 15)));
+		List<Rectangle> rectangles = strip.rectangles();
+		Assertions.assertEquals(2, rectangles.size());
+		Assertions.assertEquals(70, rectangles.get(0).width);
+		Assertions.assertEquals(16, rectangles.get(1).height);
+		Assertions.assertFalse(rectangles.get(0).intersects(rectangles.get(1)));
+		Assertions.assertEquals(0, strip.stride() % 4);
+		Assertions.assertTrue(strip.buffer().isDirect());
+
+		Rectangle first = rectangles.get(0);
+		Rectangle second = rectangles.get(1);
+		Assertions.assertEquals(255, sample(strip, first.x + 66, first.y + 4));
+		Assertions.assertEquals(255, sample(strip, second.x + 24, second.y + 15));
+		Assertions.assertEquals(0, sample(strip, first.x + 65, first.y + 4));
+	}
+
+	@Test
+	void testBufferReusedAndClearedBetweenPacks()
+	{
+		OcrStrip strip = new OcrStrip().pack(List.of(dot(40, 12, 5, 5)));
+		ByteBuffer buffer = strip.buffer();
+		Rectangle previous = strip.rectangles().getFirst();
+
+		strip.pack(List.of(dot(40, 12, 6, 5)));
+		Assertions.assertSame(buffer, strip.buffer());
+		Assertions.assertEquals(0, sample(strip, previous.x + 5, previous.y + 5));
+		Assertions.assertEquals(255, sample(strip, previous.x + 6, previous.y + 5));
+	}
+}
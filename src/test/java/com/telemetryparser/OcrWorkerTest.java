@@ -0,0 +1,249 @@
+package com.telemetryparser;
+
+import com.telemetryparser.util.image.BinaryImage;
+import com.telemetryparser.util.ocr.OcrProfile;
+import com.telemetryparser.util.ocr.remote.OcrProtocol;
+import com.telemetryparser.util.ocr.remote.OcrWorkerClient;
+import com.telemetryparser.util.ocr.remote.OcrWorkers;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OcrWorkerTest
+{
+	private static BinaryImage pattern(int width, int height, int seed)
+	{
+		BinaryImage image = new BinaryImage(width, height);
+		for (int y = 0; y < height; y++)
+		{
+			for (int x = 0; x < width; x++)
+			{
+				if ((x * 7 + y * 3 + seed) % 5 == 0)
+				{
+					image.set(x, y);
+				}
+			}
+		}
+		return image;
+	}
+
+	private static String describe(BinaryImage image)
+	{
+		return image.width() + "x" + image.height() + ":" + image.count();
+	}
+
+	@Test
+	void testRequestAndResponseRoundTrip() throws Exception
+	{
+		BinaryImage wide = pattern(131, 9, 1);
+		BinaryImage narrow = pattern(5, 3, 2);
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(buffer);
+		OcrProtocol.writeRequest(out, new OcrProtocol.Request(42, OcrProfile.SPEED, "0123456789", List.of(wide, narrow)));
+		OcrProtocol.writeResponse(out, new OcrProtocol.Response(42, List.of("1234", ""), null));
+		OcrProtocol.writeResponse(out, new OcrProtocol.Response(43, null, "engine failed"));
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.toByteArray()));
+		OcrProtocol.Request request = OcrProtocol.readRequest(in);
+		Assertions.assertEquals((long) 42, (long) request.id());
+		Assertions.assertEquals(OcrProfile.SPEED, request.profile());
+		Assertions.assertEquals("0123456789", request.whitelist());
+		Assertions.assertEquals((long) 2, (long) request.images().size());
+		for (int i = 0; i < 2; i++)
+		{
+			BinaryImage expected = i == 0 ? wide : narrow;
+			BinaryImage actual = request.images().get(i);
+			Assertions.assertEquals(describe(expected), describe(actual));
+			for (int y = 0; y < expected.height(); y++)
+			{
+				for (int x = 0; x < expected.width(); x++)
+				{
+					Assertions.assertEquals(expected.get(x, y), actual.get(x, y));
+				}
+			}
+		}
+
+		OcrProtocol.Response response = OcrProtocol.readResponse(in);
+		Assertions.assertEquals(List.of("1234", ""), response.texts());
+		Assertions.assertNull(response.error());
+		OcrProtocol.Response error = OcrProtocol.readResponse(in);
+		Assertions.assertEquals((long) 43, (long) error.id());
+		Assertions.assertEquals("engine failed", error.error());
+	}
+
+	private static boolean rejected(byte[] request)
+	{
+		try
+		{
+			OcrProtocol.readRequest(new DataInputStream(new ByteArrayInputStream(request)));
+			return false;
+		}
+		catch (IOException e)
+		{
+			return !(e instanceof EOFException);
+		}
+	}
+
+	@Test
+	void testOversizedRequestsRejectedBeforeReadingPayload() throws Exception
+	{
+		ByteArrayOutputStream tooMany = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(tooMany);
+		out.writeInt(1);
+		out.writeByte(OcrProfile.CLOCK.ordinal());
+		out.writeUTF("");
+		out.writeShort(OcrProtocol.MAX_IMAGES + 1);
+		Assertions.assertTrue(rejected(tooMany.toByteArray()), "image count above the limit should be rejected");
+
+		ByteArrayOutputStream tooLarge = new ByteArrayOutputStream();
+		out = new DataOutputStream(tooLarge);
+		out.writeInt(2);
+		out.writeByte(OcrProfile.CLOCK.ordinal());
+		out.writeUTF("");
+		out.writeShort(1);
+		out.writeShort(4096);
+		out.writeShort(4096);
+		Assertions.assertTrue(rejected(tooLarge.toByteArray()), "payload above the limit should be rejected from the header alone");
+
+		List<BinaryImage> images = new ArrayList<>();
+		for (int i = 0; i <= OcrProtocol.MAX_IMAGES; i++)
+		{
+			images.add(pattern(4, 4, i));
+		}
+		boolean refused = false;
+		try
+		{
+			OcrProtocol.writeRequest(new DataOutputStream(new ByteArrayOutputStream()), new OcrProtocol.Request(3, OcrProfile.SPEED, "", images));
+		}
+		catch (IOException e)
+		{
+			refused = true;
+		}
+		Assertions.assertTrue(refused, "client should not send requests the worker would reject");
+	}
+
+	@Test
+	void testPipelinedRequestsMatchedOutOfOrder() throws Exception
+	{
+		int requests = 8;
+		try (ServerSocket server = new ServerSocket(0))
+		{
+			Thread worker = new Thread(() ->
+			{
+				try (Socket connection = server.accept())
+				{
+					DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+					OcrProtocol.handshake(out, in);
+					List<OcrProtocol.Request> received = new ArrayList<>();
+					for (int i = 0; i < requests; i++)
+					{
+						received.add(OcrProtocol.readRequest(in));
+					}
+					for (int i = received.size() - 1; i >= 0; i--)
+					{
+						OcrProtocol.Request request = received.get(i);
+						List<String> texts = new ArrayList<>();
+						for (BinaryImage image : request.images())
+						{
+							texts.add(describe(image));
+						}
+						OcrProtocol.writeResponse(out, new OcrProtocol.Response(request.id(), texts, null));
+					}
+					out.flush();
+					in.read();
+				}
+				catch (Exception ignored)
+				{
+
+				}
+			});
+			worker.setDaemon(true);
+			worker.start();
+
+			try (OcrWorkerClient client = new OcrWorkerClient("localhost", server.getLocalPort(), 5000))
+			{
+				client.connect();
+				List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+				List<BinaryImage> images = new ArrayList<>();
+				for (int i = 0; i < requests; i++)
+				{
+					BinaryImage image = pattern(10 + i, 4, i);
+					images.add(image);
+					futures.add(client.recognize(OcrProfile.CLOCK, "", List.of(image)));
+				}
+				for (int i = 0; i < requests; i++)
+				{
+					Assertions.assertEquals(List.of(describe(images.get(i))), futures.get(i).get());
+				}
+				Assertions.assertEquals((long) 0, (long) client.pending());
+			}
+		}
+	}
+
+	@Test
+	void testUnansweredRequestTimesOut() throws Exception
+	{
+		try (ServerSocket server = new ServerSocket(0))
+		{
+			Thread worker = new Thread(() ->
+			{
+				try (Socket connection = server.accept())
+				{
+					DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+					OcrProtocol.handshake(out, in);
+					while (in.read() >= 0)
+					{
+					}
+				}
+				catch (Exception ignored)
+				{
+
+				}
+			});
+			worker.setDaemon(true);
+			worker.start();
+
+			try (OcrWorkerClient client = new OcrWorkerClient("localhost", server.getLocalPort(), 100))
+			{
+				client.connect();
+				CompletableFuture<List<String>> future = client.recognize(OcrProfile.ALTITUDE, "", List.of(pattern(8, 8, 0)));
+				boolean failed = false;
+				try
+				{
+					future.get();
+				}
+				catch (ExecutionException e)
+				{
+					failed = true;
+				}
+				Assertions.assertTrue(failed, "request without a response should time out");
+				Assertions.assertEquals((long) 0, (long) client.pending());
+			}
+		}
+	}
+
+	@Test
+	void testInvalidEndpointsSkipped()
+	{
+		Assertions.assertEquals(List.of("host:abc", ":5000", "worker:70000"), OcrWorkers.invalidEndpoints("localhost, host:abc, :5000, worker:6000,worker:70000,"));
+		OcrWorkers workers = new OcrWorkers();
+		workers.configure("host:abc, :5000", 2000);
+		Assertions.assertEquals((long) 0, (long) workers.configured());
+		Assertions.assertFalse(workers.isEnabled());
+	}
+}
@@ -0,0 +1,155 @@
+package com.telemetryparser;
+
+import com.telemetryparser.core.Parameter;
+import com.telemetryparser.core.fixed.CVOrientationResult;
+import com.telemetryparser.util.image.BinaryImage;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OrientationTest
+{
+	private static BufferedImage line(int width, int height, double angle, float thickness)
+	{
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		g.setColor(Color.BLACK);
+		g.fillRect(0, 0, width, height);
+		g.setColor(Color.WHITE);
+		g.setStroke(new BasicStroke(thickness));
+		double length = 0.4 * Math.min(width, height);
+		double dx = Math.sin(Math.toRadians(angle)) * length;
+		double dy = Math.cos(Math.toRadians(angle)) * length;
+		g.drawLine((int) Math.round(width / 2.0 - dx), (int) Math.round(height / 2.0 - dy), (int) Math.round(width / 2.0 + dx), (int) Math.round(height / 2.0 + dy));
+		g.dispose();
+		return image;
+	}
+
+	private static double[] reference(BinaryImage image)
+	{
+		int width = image.width();
+		int height = image.height();
+		List<int[]> edgePixels = new ArrayList<>();
+		for (int y = 0; y < height; y++)
+		{
+			for (int x = 0; x < width; x++)
+			{
+				if (image.get(x, y))
+				{
+					edgePixels.add(new int[] {x, y});
+				}
+			}
+		}
+
+		double sumX = 0.0;
+		double sumY = 0.0;
+		int n = edgePixels.size();
+		for (int[] pt : edgePixels)
+		{
+			sumX += pt[0];
+			sumY += pt[1];
+		}
+		double meanX = sumX / n;
+		double meanY = sumY / n;
+
+		double sxx = 0.0;
+		double syy = 0.0;
+		double sxy = 0.0;
+		for (int[] pt : edgePixels)
+		{
+			double dx = pt[0] - meanX;
+			double dy = pt[1] - meanY;
+			sxx += dx * dx;
+			syy += dy * dy;
+			sxy += dx * dy;
+		}
+
+		double trace = sxx + syy;
+		double diff = sxx - syy;
+		double det = 0.25 * diff * diff + sxy * sxy;
+		double lambda1 = 0.5 * trace + Math.sqrt(det);
+		double lambda2 = 0.5 * trace - Math.sqrt(det);
+		double lambdaMax = Math.max(lambda1, lambda2);
+		double lambdaMin = Math.min(lambda1, lambda2);
+
+		double vx;
+		double vy;
+		if (Math.abs(sxy) > 1e-12)
+		{
+			vx = 1.0;
+			vy = -(sxx - lambdaMax) / sxy;
+		}
+		else
+		{
+			vx = 1.0;
+			vy = 0.0;
+		}
+		double lengthVec = Math.sqrt(vx * vx + vy * vy);
+		vx /= lengthVec;
+		vy /= lengthVec;
+
+		double angleDeg = Math.toDegrees(Math.atan2(vx, vy));
+		if (angleDeg > 90)
+		{
+			angleDeg -= 180;
+		}
+		angleDeg *= -1;
+		double strength = (lambdaMax + lambdaMin) > 1e-12 ? (lambdaMax - lambdaMin) / (lambdaMax + lambdaMin) : 0.0;
+
+		Set<Long> edgeSet = new HashSet<>();
+		for (int[] p : edgePixels)
+		{
+			edgeSet.add(((long) p[1] << 20) | (long) p[0]);
+		}
+		int matched = 0;
+		for (int[] p : edgePixels)
+		{
+			double dx = p[0] - meanX;
+			double dy = p[1] - meanY;
+			double dot = dx * vx + dy * vy;
+			int rxi = (int) Math.round(meanX + 2 * dot * vx - dx);
+			int ryi = (int) Math.round(meanY + 2 * dot * vy - dy);
+			if (rxi >= 0 && rxi < width && ryi >= 0 && ryi < height && edgeSet.contains(((long) ryi << 20) | (long) rxi))
+			{
+				matched++;
+			}
+		}
+
+		return new double[] {Math.round(angleDeg * 10.0) / 10.0, strength, (double) matched / n};
+	}
+
+	private static void assertMatchesReference(BufferedImage image)
+	{
+		CVOrientationResult result = (CVOrientationResult) CVOrientationResult.fromImageAsync(image, Parameter.STAGE_1_ORIENTATION, Runnable::run).join();
+		double[] expected = reference(result.getBinaryImage());
+		Assertions.assertEquals(expected[0], result.getOrientation(), 0.1);
+		Assertions.assertEquals(expected[1], result.getOrientationStrength(), 1e-9);
+		Assertions.assertEquals(expected[2], result.getOrientationSymmetry(), 1e-3);
+	}
+
+	@Test
+	void testMomentsMatchPointListImplementation()
+	{
+		Random random = new Random(7);
+		for (int i = 0; i < 40; i++)
+		{
+			int width = 40 + random.nextInt(200);
+			int height = 40 + random.nextInt(200);
+			assertMatchesReference(line(width, height, random.nextDouble() * 180 - 90, 1 + random.nextInt(8)));
+		}
+	}
+
+	@Test
+	void testLargeRegionDoesNotOverflow()
+	{
+		assertMatchesReference(line(3000, 3000, 30, 1600));
+	}
+}
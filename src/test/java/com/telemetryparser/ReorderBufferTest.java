@@ -0,0 +1,97 @@
+package com.telemetryparser;
+
+import com.telemetryparser.core.fixed.ReorderBuffer;
+import com.telemetryparser.util.metrics.LatencyHistogram;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ReorderBufferTest
+{
+	@Test
+	void testConcurrentPublishersDeliverInOrderWithGaps() throws InterruptedException
+	{
+		int count = 2000;
+		List<Integer> delivered = new CopyOnWriteArrayList<>();
+		List<Long> stuck = new CopyOnWriteArrayList<>();
+		CountDownLatch done = new CountDownLatch(count - count / 7 - 1);
+		ReorderBuffer<Integer> buffer = new ReorderBuffer<>("test-drain", 16, 10_000, value ->
+		{
+			delivered.add(value);
+			done.countDown();
+		}, stuck::add, new LatencyHistogram());
+		buffer.start();
+
+		List<Integer> sequences = new ArrayList<>(IntStream.range(0, count).boxed().toList());
+		Collections.shuffle(sequences);
+		sequences.parallelStream().forEach(sequence ->
+		{
+			if (sequence % 7 == 0)
+			{
+				buffer.skip(sequence);
+			}
+			else
+			{
+				buffer.publish(sequence, sequence);
+			}
+		});
+
+		Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+		buffer.close();
+		List<Integer> expected = IntStream.range(0, count).filter(i -> i % 7 != 0).boxed().toList();
+		Assertions.assertEquals(expected, delivered);
+		Assertions.assertEquals((long) (count / 7 + 1), buffer.gaps());
+		Assertions.assertTrue(stuck.isEmpty());
+	}
+
+	@Test
+	void testStuckFrameIsSkippedAndLateResultDiscarded() throws InterruptedException
+	{
+		List<Integer> delivered = new CopyOnWriteArrayList<>();
+		List<Long> stuck = new CopyOnWriteArrayList<>();
+		CountDownLatch done = new CountDownLatch(2);
+		ReorderBuffer<Integer> buffer = new ReorderBuffer<>("test-drain", 8, 50, value ->
+		{
+			delivered.add(value);
+			done.countDown();
+		}, stuck::add, new LatencyHistogram());
+		buffer.start();
+
+		buffer.publish(1, 1);
+		buffer.publish(2, 2);
+		Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+		buffer.publish(0, 0);
+		buffer.close();
+
+		Assertions.assertEquals(List.of(1, 2), delivered);
+		Assertions.assertEquals(List.of(0L), stuck);
+		Assertions.assertEquals(1L, buffer.late());
+	}
+
+	@Test
+	void testStuckTailFrameTimesOutOnceExpected() throws InterruptedException
+	{
+		List<Integer> delivered = new CopyOnWriteArrayList<>();
+		List<Long> stuck = new CopyOnWriteArrayList<>();
+		ReorderBuffer<Integer> buffer = new ReorderBuffer<>("test-drain", 8, 50, delivered::add, stuck::add, new LatencyHistogram());
+		buffer.start();
+
+		buffer.expect(0);
+		buffer.publish(0, 0);
+		Assertions.assertTrue(buffer.awaitSequence(1, 5000));
+		Assertions.assertFalse(buffer.awaitSequence(2, 200));
+
+		buffer.expect(1);
+		Assertions.assertTrue(buffer.awaitSequence(2, 5000));
+		buffer.close();
+
+		Assertions.assertEquals(List.of(0), delivered);
+		Assertions.assertEquals(List.of(1L), stuck);
+	}
+}
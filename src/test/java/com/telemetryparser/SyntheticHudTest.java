@@ -0,0 +1,118 @@
+package com.telemetryparser;
+
+import com.telemetryparser.core.Parameter;
+import com.telemetryparser.core.fixed.CVEngineResult;
+import com.telemetryparser.core.fixed.CVFuelResult;
+import com.telemetryparser.core.fixed.CVOrientationResult;
+import com.telemetryparser.headless.HudRenderer;
+import com.telemetryparser.headless.SyntheticFrameSource;
+import com.telemetryparser.headless.TelemetryTrack;
+import com.telemetryparser.settings.Preset;
+import com.telemetryparser.util.EngineLocation;
+import com.telemetryparser.util.ImageUtil;
+import com.telemetryparser.util.ROIRatios;
+import com.telemetryparser.util.UnitTranslation;
+import java.awt.Font;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SyntheticHudTest
+{
+	private static final int WIDTH = 1280;
+	private static final int HEIGHT = 720;
+
+	private static Preset preset()
+	{
+		Map<Parameter, ROIRatios> ratios = new LinkedHashMap<>();
+		ratios.put(Parameter.TIME, new ROIRatios(0.44, 0.87, 0.11, 0.045));
+		ratios.put(Parameter.STAGE_1_SPEED, new ROIRatios(0.2, 0.84, 0.05, 0.03));
+		ratios.put(Parameter.STAGE_1_LOX, new ROIRatios(0.14, 0.92, 0.125, 0.015));
+		ratios.put(Parameter.STAGE_1_ORIENTATION, new ROIRatios(0.3, 0.8, 0.1, 0.18));
+		ratios.put(Parameter.STAGE_1_ENGINES, new ROIRatios(0.02, 0.8, 0.0625, 0.12));
+
+		Map<Integer, EngineLocation> engines = new LinkedHashMap<>();
+		engines.put(1, new EngineLocation(new Point(40, 40), 6, 1));
+		engines.put(2, new EngineLocation(new Point(40, 15), 6, 2));
+		engines.put(3, new EngineLocation(new Point(65, 40), 6, 2));
+		engines.put(4, new EngineLocation(new Point(40, 65), 6, 2));
+		engines.put(5, new EngineLocation(new Point(15, 40), 6, 2));
+		return new Preset(ratios, engines, new HashMap<>(), UnitTranslation.Kilometers, UnitTranslation.Kilometers, false, "T");
+	}
+
+	private static BufferedImage roi(Preset preset, BufferedImage frame, Parameter parameter)
+	{
+		return ImageUtil.extractROI(frame, preset.ratios().get(parameter));
+	}
+
+	@Test
+	void testRenderedGaugesReadBackByAnalyzers()
+	{
+		Preset preset = preset();
+		HudRenderer renderer = new HudRenderer(preset, new Font(Font.SANS_SERIF, Font.BOLD, 1), WIDTH, HEIGHT);
+		Map<Parameter, Double> values = new EnumMap<>(Parameter.class);
+		values.put(Parameter.STAGE_1_SPEED, 1234.4);
+		values.put(Parameter.STAGE_1_LOX, 42.0);
+		values.put(Parameter.STAGE_1_ORIENTATION, 25.0);
+		values.put(Parameter.STAGE_1_CENTER_ENGINES, 1.0);
+		values.put(Parameter.STAGE_1_MIDDLE_ENGINES, 2.0);
+
+		HudRenderer.Frame frame = renderer.render(-5.6, values);
+		Map<Parameter, Double> truth = frame.truth();
+		Assertions.assertEquals(-5.0, truth.get(Parameter.TIME), 0);
+		Assertions.assertEquals(1234.0, truth.get(Parameter.STAGE_1_SPEED), 0);
+		Assertions.assertEquals(3.0, truth.get(Parameter.STAGE_1_ENGINES), 0);
+
+		CVFuelResult fuel = (CVFuelResult) CVFuelResult.fromImageAsync(roi(preset, frame.image(), Parameter.STAGE_1_LOX), WIDTH, Runnable::run).join();
+		Assertions.assertEquals(truth.get(Parameter.STAGE_1_LOX), fuel.getFuelPercent(), 1.5);
+
+		CVOrientationResult pitch = (CVOrientationResult) CVOrientationResult.fromImageAsync(roi(preset, frame.image(), Parameter.STAGE_1_ORIENTATION), Parameter.STAGE_1_ORIENTATION, Runnable::run).join();
+		Assertions.assertNotNull(pitch.getComputedOrientation());
+		Assertions.assertEquals(25.0, pitch.getComputedOrientation(), 2.0);
+
+		CVEngineResult engines = (CVEngineResult) CVEngineResult.fromImageAsync(roi(preset, frame.image(), Parameter.STAGE_1_ENGINES), preset.stage1EngineMap(), -1, Runnable::run).join();
+		Assertions.assertEquals(3L, (long) engines.getEngineStates().getEnginesActive());
+		Assertions.assertEquals(1L, (long) engines.getEngineStates().getEnginesActiveForRing(1));
+		Assertions.assertEquals(2L, (long) engines.getEngineStates().getEnginesActiveForRing(2));
+	}
+
+	@Test
+	void testTrackHoldsValuesBrieflyAndSourceCoversRange() throws IOException
+	{
+		File csv = Files.createTempFile("telemetry", ".csv").toFile();
+		Files.writeString(csv.toPath(), String.join("\n",
+			"Time,Stage 1 Speed,Stage 1 LOX",
+			"0.00,100.00,",
+			"0.50,,90.00",
+			"2.00,,",
+			""));
+
+		TelemetryTrack track = TelemetryTrack.load(csv);
+		Assertions.assertEquals(0.0, track.startTime(), 0);
+		Assertions.assertEquals(2.0, track.endTime(), 0);
+		Assertions.assertEquals(100.0, track.at(0.75).get(Parameter.STAGE_1_SPEED), 0);
+		Assertions.assertEquals(90.0, track.at(0.75).get(Parameter.STAGE_1_LOX), 0);
+		Assertions.assertNull(track.at(2.0).get(Parameter.STAGE_1_SPEED));
+		Assertions.assertNull(track.at(-1).get(Parameter.STAGE_1_SPEED));
+
+		HudRenderer renderer = new HudRenderer(preset(), new Font(Font.SANS_SERIF, Font.BOLD, 1), WIDTH, HEIGHT);
+		SyntheticFrameSource source = new SyntheticFrameSource(track, renderer, 10, 0, 2);
+		Assertions.assertEquals(21L, (long) source.size());
+		int frames = 0;
+		BufferedImage image;
+		while ((image = source.next()) != null)
+		{
+			Assertions.assertEquals((long) WIDTH, (long) image.getWidth());
+			frames++;
+		}
+		Assertions.assertEquals(21L, (long) frames);
+	}
+}
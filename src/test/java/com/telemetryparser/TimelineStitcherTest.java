@@ -0,0 +1,42 @@
+package com.telemetryparser;
+
+import com.telemetryparser.core.TelemetrySnapshot;
+import com.telemetryparser.headless.TimelineStitcher;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TimelineStitcherTest
+{
+	private static List<TelemetrySnapshot> timeline(int fromFrame, int toFrame, double calibrationError)
+	{
+		List<TelemetrySnapshot> snapshots = new ArrayList<>();
+		for (int frame = fromFrame; frame < toFrame; frame++)
+		{
+			long playerTime = frame * 100L;
+			snapshots.add(new TelemetrySnapshot(60 + frame * 0.1 + calibrationError, new HashMap<>(), 0, playerTime, playerTime));
+		}
+		return snapshots;
+	}
+
+	@Test
+	void testOverlapsAlignedAndEachFrameKeptOnce()
+	{
+		List<TimelineStitcher.Chunk> chunks = List.of(
+			new TimelineStitcher.Chunk(0, timeline(0, 100, 0)),
+			new TimelineStitcher.Chunk(10_000, timeline(80, 200, 0.4)),
+			new TimelineStitcher.Chunk(20_000, timeline(180, 300, -0.3)));
+
+		List<TelemetrySnapshot> stitched = TimelineStitcher.stitch(chunks);
+
+		Assertions.assertEquals(300L, stitched.size());
+		for (int frame = 0; frame < 300; frame++)
+		{
+			TelemetrySnapshot snapshot = stitched.get(frame);
+			Assertions.assertEquals(frame * 100L, snapshot.getPlayerTime());
+			Assertions.assertEquals(60 + frame * 0.1, snapshot.getTime(), 1e-9);
+		}
+	}
+}